@@ -0,0 +1,58 @@
+package seedu.address.benchmarkutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Github;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Scales the persons from {@link SampleDataUtil} up to address books of any size for benchmarks.
+ * The {@code i}-th person copies sample person {@code i % 6} with a numbered name and unique contact details,
+ * so names, tags and preferred modes keep the distribution of the sample data.
+ */
+public class ScaledSampleData {
+
+    /**
+     * Returns {@code size} distinct persons.
+     */
+    public static List<Person> getPersons(int size) {
+        Person[] samples = SampleDataUtil.getSamplePersons();
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(scale(samples[i % samples.length], i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code size} distinct persons.
+     */
+    public static AddressBook getAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getPersons(size));
+        return addressBook;
+    }
+
+    /**
+     * Returns a copy of {@code sample} made distinct by {@code number}.
+     */
+    public static Person scale(Person sample, int number) {
+        Telegram telegram = sample.getTelegram().value == null
+                ? sample.getTelegram()
+                : new Telegram(sample.getTelegram().value + "_" + number);
+        Github github = sample.getGithub().value == null
+                ? sample.getGithub()
+                : new Github(sample.getGithub().value + "-" + number);
+        return new Person(new Name(sample.getName().fullName + " " + number),
+                new Phone(String.format("9%07d", number)),
+                new Email(number + sample.getEmail().value),
+                telegram, github, sample.getPreferredMode(), sample.getTags());
+    }
+}
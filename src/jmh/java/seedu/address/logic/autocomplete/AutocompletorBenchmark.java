@@ -0,0 +1,44 @@
+package seedu.address.logic.autocomplete;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.ScaledSampleData;
+import seedu.address.logic.commands.CommandRegistry;
+
+/**
+ * Benchmarks {@link Autocompletor#getHint} for command words and argument values, which is computed on every
+ * keystroke in the command box.
+ */
+@State(Scope.Benchmark)
+public class AutocompletorBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Autocompletor autocompletor;
+
+    @Setup
+    public void setUp() {
+        CommandRegistry.initialize();
+        autocompletor = new Autocompletor(ScaledSampleData.getAddressBook(size).getPersonList());
+    }
+
+    @Benchmark
+    public String commandWordHint() {
+        return autocompletor.getHint("ed");
+    }
+
+    @Benchmark
+    public String nameHint() {
+        return autocompletor.getHint("edit 3 n\\Bernice Yu 1");
+    }
+
+    @Benchmark
+    public String tagHint() {
+        return autocompletor.getHint("find t\\fri");
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.autocomplete.trie;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.ScaledSampleData;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks {@link Trie#keysWithPrefix} over the lower-cased names of scaled sample persons, with a prefix
+ * shared by a sixth of the keys and one shared by a single key, and the top key for the common prefix as used by
+ * autocompletion.
+ */
+@State(Scope.Benchmark)
+public class TrieBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private Trie trie;
+
+    @Setup
+    public void setUp() {
+        trie = new Trie();
+        for (Person person : ScaledSampleData.getPersons(size)) {
+            trie.put(person.getName().fullName.toLowerCase());
+        }
+    }
+
+    @Benchmark
+    public List<String> keysWithCommonPrefix() {
+        return trie.keysWithPrefix("alex");
+    }
+
+    @Benchmark
+    public List<String> topKeyWithCommonPrefix() {
+        return trie.keysWithPrefix("alex", 1);
+    }
+
+    @Benchmark
+    public List<String> keysWithUniquePrefix() {
+        return trie.keysWithPrefix("alex yeoh 0");
+    }
+}
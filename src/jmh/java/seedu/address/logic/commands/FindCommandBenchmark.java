@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.ScaledSampleData;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+/**
+ * Benchmarks filtering the person list with the {@link FindCommand} predicates, both through the model, which
+ * answers them from its search index, and by testing every person directly.
+ */
+@State(Scope.Benchmark)
+public class FindCommandBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private final NameContainsKeywordsPredicate namePredicate =
+            new NameContainsKeywordsPredicate(List.of("alex", "ber"));
+    private final TagContainsKeywordsPredicate tagPredicate =
+            new TagContainsKeywordsPredicate(List.of("family", "neigh"));
+
+    private ModelManager model;
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(ScaledSampleData.getAddressBook(size), new UserPrefs(), new CommandHistory());
+        persons = List.copyOf(model.getAddressBook().getPersonList());
+    }
+
+    @Benchmark
+    public CommandResult findByName() {
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new FindCommand(namePredicate, false).execute(model);
+    }
+
+    @Benchmark
+    public CommandResult findByTag() {
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new FindCommand(tagPredicate, false).execute(model);
+    }
+
+    @Benchmark
+    public long namePredicateScan() {
+        return persons.stream().filter(namePredicate).count();
+    }
+
+    @Benchmark
+    public long tagPredicateScan() {
+        return persons.stream().filter(tagPredicate).count();
+    }
+}
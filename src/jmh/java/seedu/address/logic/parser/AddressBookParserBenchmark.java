@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.FLAG_ALPHABETICAL_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREFERRED_MODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks {@link AddressBookParser#parseCommand} on typical input for the most frequently used commands.
+ */
+@State(Scope.Benchmark)
+public class AddressBookParserBenchmark {
+
+    private static final String ADD_INPUT = AddCommand.COMMAND_WORD + " "
+            + PREFIX_NAME + "John Doe " + PREFIX_PHONE + "98765432 " + PREFIX_EMAIL + "johnd@example.com "
+            + PREFIX_TELEGRAM + "imjohndoe23 " + PREFIX_GITHUB + "john-doe23 " + PREFIX_PREFERRED_MODE + "telegram "
+            + PREFIX_TAG + "friends " + PREFIX_TAG + "colleagues";
+    private static final String EDIT_INPUT = EditCommand.COMMAND_WORD + " 1 "
+            + PREFIX_PHONE + "91234567 " + PREFIX_EMAIL + "johndoe@example.com";
+    private static final String FIND_INPUT = FindCommand.COMMAND_WORD + " " + PREFIX_NAME + "alex bernice david";
+    private static final String LIST_INPUT = ListCommand.COMMAND_WORD + " " + FLAG_ALPHABETICAL_ORDER;
+
+    private static final Map<String, String> INPUTS = Map.of(
+            AddCommand.COMMAND_WORD, ADD_INPUT,
+            EditCommand.COMMAND_WORD, EDIT_INPUT,
+            FindCommand.COMMAND_WORD, FIND_INPUT,
+            ListCommand.COMMAND_WORD, LIST_INPUT);
+
+    @Param({"add", "edit", "find", "list"})
+    public String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String input;
+
+    @Setup
+    public void setUp() {
+        CommandRegistry.initialize();
+        input = INPUTS.get(commandWord);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
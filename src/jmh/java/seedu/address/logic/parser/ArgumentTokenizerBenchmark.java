@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREFERRED_MODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link ArgumentTokenizer#tokenize} on arguments with an increasing number of tags.
+ */
+@State(Scope.Benchmark)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TELEGRAM,
+        PREFIX_GITHUB, PREFIX_PREFERRED_MODE, PREFIX_TAG, PREFIX_REMOVE_TAG};
+
+    @Param({"1", "10", "100"})
+    public int tagCount;
+
+    private String arguments;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(" ")
+                .append(PREFIX_NAME).append("John Doe ")
+                .append(PREFIX_PHONE).append("98765432 ")
+                .append(PREFIX_EMAIL).append("johnd@example.com ")
+                .append(PREFIX_TELEGRAM).append("imjohndoe23 ")
+                .append(PREFIX_GITHUB).append("john-doe23 ")
+                .append(PREFIX_PREFERRED_MODE).append("telegram");
+        for (int i = 0; i < tagCount; i++) {
+            builder.append(' ').append(PREFIX_TAG).append("tag").append(i);
+        }
+        arguments = builder.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIXES);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.ScaledSampleData;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks switching the sort mode of the {@link ModelManager} person list, and editing one person in it.
+ * Each sort benchmark first resets to insertion order so that every invocation re-sorts the whole list.
+ */
+@State(Scope.Benchmark)
+public class ModelManagerBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private ModelManager model;
+    private Person original;
+    private Person edited;
+    private boolean isEdited;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(ScaledSampleData.getAddressBook(size), new UserPrefs(), new CommandHistory());
+        original = model.getAddressBook().getPersonList().get(size / 2);
+        edited = ScaledSampleData.scale(original, size);
+        model.applyNameSort();
+    }
+
+    @Benchmark
+    public List<Person> applyNameSort() {
+        model.resetSortOrder();
+        model.applyNameSort();
+        return model.getSortedAndFilteredPersonList();
+    }
+
+    @Benchmark
+    public List<Person> applyRecentSort() {
+        model.resetSortOrder();
+        model.applyRecentSort();
+        return model.getSortedAndFilteredPersonList();
+    }
+
+    @Benchmark
+    public List<Person> resetSortOrder() {
+        model.applyNameSort();
+        model.resetSortOrder();
+        return model.getSortedAndFilteredPersonList();
+    }
+
+    @Benchmark
+    public List<Person> editPersonInSortedList() {
+        model.setPerson(isEdited ? edited : original, isEdited ? original : edited);
+        isEdited = !isEdited;
+        return model.getSortedAndFilteredPersonList();
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.ScaledSampleData;
+
+/**
+ * Benchmarks adding persons to and looking persons up in a {@link UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+public class UniquePersonListBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private List<Person> persons;
+    private UniquePersonList filledList;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() {
+        persons = ScaledSampleData.getPersons(size);
+        filledList = new UniquePersonList();
+        filledList.setPersons(persons);
+        absentPerson = ScaledSampleData.scale(persons.get(0), size);
+    }
+
+    @Benchmark
+    public UniquePersonList addAll() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return filledList.contains(persons.get(size / 2));
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return filledList.contains(absentPerson);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.ScaledSampleData;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks validating the fields of every person, as loading an address book does, against matching each field
+ * with {@code String#matches}, which compiles the regular expression again on every call.
+ */
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = ScaledSampleData.getPersons(size);
+    }
+
+    @Benchmark
+    public int validate() {
+        int validCount = 0;
+        for (Person person : persons) {
+            validCount += Name.isValidName(person.getName().fullName) ? 1 : 0;
+            validCount += Phone.isValidPhone(person.getPhone().value) ? 1 : 0;
+            validCount += Email.isValidEmail(person.getEmail().value) ? 1 : 0;
+            validCount += Telegram.isValidTelegram(person.getTelegram().value) ? 1 : 0;
+            validCount += Github.isValidGithub(person.getGithub().value) ? 1 : 0;
+            for (Tag tag : person.getTags()) {
+                validCount += Tag.isValidTagName(tag.tagName) ? 1 : 0;
+            }
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public int validateWithStringMatches() {
+        int validCount = 0;
+        for (Person person : persons) {
+            validCount += person.getName().fullName.matches(Name.VALIDATION_REGEX) ? 1 : 0;
+            validCount += person.getPhone().value.matches(Phone.VALIDATION_REGEX) ? 1 : 0;
+            validCount += matchesIfPresent(person.getEmail().value, Email.VALIDATION_REGEX);
+            validCount += matchesIfPresent(person.getTelegram().value, Telegram.VALIDATION_REGEX);
+            validCount += matchesIfPresent(person.getGithub().value, Github.VALIDATION_REGEX);
+            for (Tag tag : person.getTags()) {
+                validCount += tag.tagName.matches(Tag.VALIDATION_REGEX) ? 1 : 0;
+            }
+        }
+        return validCount;
+    }
+
+    private static int matchesIfPresent(String value, String regex) {
+        return value == null || value.matches(regex) ? 1 : 0;
+    }
+}
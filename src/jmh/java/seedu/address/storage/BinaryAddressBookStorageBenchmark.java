@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmarkutil.ScaledSampleData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks saving the address book as JSON with a binary snapshot, and loading it from the snapshot, to compare
+ * with {@link JsonAddressBookStorageBenchmark}.
+ */
+@State(Scope.Benchmark)
+public class BinaryAddressBookStorageBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private BinaryAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("binaryAddressBookStorageBenchmark");
+        addressBook = ScaledSampleData.getAddressBook(size);
+        storage = new BinaryAddressBookStorage(new JsonAddressBookStorage(folder.resolve("addressbook.json")));
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveWithSnapshot() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadSnapshot() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmarkutil.ScaledSampleData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks saving and loading the address book as JSON, and exporting it as CSV.
+ * CSV is export-only, so it has no load benchmark.
+ */
+@State(Scope.Benchmark)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage storage;
+    private Path csvFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("jsonAddressBookStorageBenchmark");
+        addressBook = ScaledSampleData.getAddressBook(size);
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        storage.saveAddressBook(addressBook);
+        csvFile = folder.resolve("addressbook.csv");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJson() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void exportCsv() throws IOException {
+        storage.exportAddressBookToCsv(addressBook, csvFile);
+    }
+}
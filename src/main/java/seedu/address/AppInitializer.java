@@ -0,0 +1,205 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.NewlineDelimitedCommandHistoryStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
+
+/**
+ * Loads the config, preferences and data that the application starts with, and sets up the storage they are kept in.
+ * It does not depend on the JavaFX toolkit, so that the GUI and the headless mode start up the same way.
+ */
+public class AppInitializer {
+
+    public static final String MESSAGE_BACKUP_AVAILABLE = " Its previous version is kept at %s until the next save;"
+            + " exit now and copy it over the data file to restore it.";
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage of the address book at {@code addressBookFilePath}: a JSON data file with a binary snapshot
+     * for fast loading, and a journal of single-person changes on top of them.
+     * The caller must make it track the person list of the address book once that is loaded.
+     */
+    public static JournaledAddressBookStorage initAddressBookStorage(Path addressBookFilePath) {
+        return new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(new JsonAddressBookStorage(addressBookFilePath)));
+    }
+
+    /**
+     * Returns a {@code Storage} that keeps the data in {@code addressBookStorage}, the preferences in
+     * {@code userPrefsStorage} and the command history at the path in {@code userPrefs}, and saves the address book
+     * and command history in the background, reporting failed saves to {@code errorHandler}.
+     */
+    public static Storage initStorage(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            UserPrefs userPrefs, Consumer<String> errorHandler) {
+        CommandHistoryStorage commandHistoryStorage =
+                new NewlineDelimitedCommandHistoryStorage(userPrefs.getCommandHistoryFilePath());
+        return new WriteBehindStorage(
+                new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage), errorHandler);
+    }
+
+    /**
+     * Waits for the saves requested so far to be written, then saves {@code model}'s address book in full if the last
+     * of them failed or was deferred, so that its changes are not lost when the app exits.
+     * Must be called on the thread that modifies {@code model}.
+     *
+     * @throws IOException if the address book could not be saved.
+     */
+    public static void saveBeforeExit(Storage storage, JournaledAddressBookStorage addressBookStorage, Model model)
+            throws IOException {
+        storage.flush();
+        if (addressBookStorage.hasUnsavedChanges()) {
+            logger.info("Saving the address book in full, as its last save did not complete");
+            storage.saveAddressBook(model.getAddressBook(), storage.getAddressBookFilePath());
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * In that case, {@code notifier} is told so that the user can be warned, and pointed to the backup of the data
+     * file if there is one, which is never loaded in its place.
+     */
+    public static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Consumer<String> notifier) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            String message = "Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                + " Will be starting with an empty AddressBook.";
+            Path backupPath = FileUtil.getBackupPath(storage.getAddressBookFilePath());
+            if (FileUtil.isFileExists(backupPath)) {
+                message += String.format(MESSAGE_BACKUP_AVAILABLE, backupPath);
+            }
+            logger.warning(message);
+            notifier.accept(message);
+            initialData = new AddressBook();
+        }
+
+        Optional<CommandHistory> commandHistoryOptional;
+        ReadOnlyCommandHistory commandHistory;
+        try {
+            commandHistoryOptional = storage.readCommandHistory();
+            if (commandHistoryOptional.isEmpty()) {
+                logger.info("Creating a new data file " + storage.getCommandHistoryFilePath());
+            }
+            commandHistory = commandHistoryOptional.orElseGet(CommandHistory::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getCommandHistoryFilePath() + " could not be loaded."
+                    + " Will be starting with empty command history");
+            commandHistory = new CommandHistory();
+        }
+
+        return new ModelManager(initialData, userPrefs, commandHistory);
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.StateManager;
+import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI, executing the commands read from standard input and writing their results
+ * to standard output. The JavaFX toolkit is never started, so this mode suits scripted, server-side and
+ * benchmarking use.
+ */
+public class HeadlessApp {
+
+    /** The command-line argument that asks for the application to be run without a GUI. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Error: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a HeadlessApp that executes commands with {@code logic}.
+     */
+    public HeadlessApp(Logic logic) {
+        this.logic = logic;
+    }
+
+    /**
+     * Returns true if {@code args} ask for the application to be run without a GUI.
+     */
+    public static boolean isRequested(String... args) {
+        return Arrays.asList(args).contains(HEADLESS_FLAG);
+    }
+
+    /**
+     * Executes each non-blank line of {@code input} as a command, until the input ends or a command exits the
+     * application, and writes the result of each command to {@code output}.
+     *
+     * @return the number of commands that failed
+     * @throws IOException if {@code input} could not be read
+     */
+    public int run(BufferedReader input, PrintStream output) throws IOException {
+        int failureCount = 0;
+        for (String line = input.readLine(); line != null; line = input.readLine()) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                CommandResult commandResult = logic.execute(line);
+                output.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                output.println(String.format(MESSAGE_COMMAND_FAILED, e.getMessage()));
+            }
+        }
+        output.flush();
+        return failureCount;
+    }
+
+    /**
+     * Starts the application with the command-line arguments {@code args} and runs the commands on standard input.
+     *
+     * @return the exit status of the process, which is non-zero if any command failed or any save failed
+     */
+    public static int launch(String... args) {
+        logger.info("=============================[ Initializing AddressBook (headless) ]================");
+        AppParameters appParameters = AppParameters.parse(args);
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        JournaledAddressBookStorage addressBookStorage =
+                AppInitializer.initAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AtomicBoolean hasSaveFailed = new AtomicBoolean(false);
+        Storage storage = AppInitializer.initStorage(addressBookStorage, userPrefsStorage, userPrefs, message -> {
+            hasSaveFailed.set(true);
+            System.err.println(message);
+        });
+
+        Model model = AppInitializer.initModelManager(storage, userPrefs, System.err::println);
+        addressBookStorage.trackChanges(model.getAddressBook().getPersonList());
+        CommandRegistry.initialize();
+        Logic logic = new LogicManager(model, storage, new StateManager());
+
+        int exitStatus;
+        try {
+            BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            exitStatus = new HeadlessApp(logic).run(input, System.out) == 0 ? 0 : 1;
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            exitStatus = 1;
+        }
+
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            AppInitializer.saveBeforeExit(storage, addressBookStorage, model);
+        } catch (IOException e) {
+            logger.severe("Failed to save the address book " + StringUtil.getDetails(e));
+            hasSaveFailed.set(true);
+        }
+        if (hasSaveFailed.get()) {
+            // The changes made by the commands are not all in the data file, although the commands succeeded
+            exitStatus = 1;
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        return exitStatus;
+    }
+}
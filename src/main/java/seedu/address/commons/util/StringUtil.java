@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.function.IntPredicate;
 
 /**
  * Helper functions for handling strings.
@@ -128,4 +129,38 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code s} has from {@code minLength} to {@code maxLength} characters, each satisfying
+     * {@code isAllowed}. This checks formats like {@code [0-9]{3,17}} in one pass, without a regular expression.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean hasLengthAndCharacters(String s, int minLength, int maxLength, IntPredicate isAllowed) {
+        requireNonNull(s);
+        if (s.length() < minLength || s.length() > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAllowed.test(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is one of the ASCII digits {@code 0-9}, which is what {@code \d} matches in a regular
+     * expression.
+     */
+    public static boolean isAsciiDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, which is what {@code \p{Alnum}} matches in a regular
+     * expression.
+     */
+    public static boolean isAsciiAlphanumeric(int c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
 }
@@ -1,7 +1,6 @@
 package seedu.address.logic;
 
 import java.io.IOException;
-import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
@@ -23,11 +22,6 @@ import seedu.address.storage.Storage;
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
-    public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
-
-    public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
-            "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
-
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -149,12 +143,9 @@ public class LogicManager implements Logic {
     private void runSaveWithHandling(Savable saveOperation) throws CommandException {
         try {
             saveOperation.apply(storage);
-        } catch (AccessDeniedException e) {
-            logger.info("Error occurred while saving to file: " + e.getMessage());
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             logger.info("Error occurred while saving to file: " + ioe.getMessage());
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(Storage.getSaveErrorMessage(ioe), ioe);
         }
     }
 
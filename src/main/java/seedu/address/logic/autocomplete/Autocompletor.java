@@ -1,28 +1,84 @@
 package seedu.address.logic.autocomplete;
 
+import static seedu.address.logic.parser.CliSyntax.FLAG_ALPHABETICAL_ORDER;
+import static seedu.address.logic.parser.CliSyntax.FLAG_DELETE_TAG;
+import static seedu.address.logic.parser.CliSyntax.FLAG_GITHUB_LAUNCH;
+import static seedu.address.logic.parser.CliSyntax.FLAG_RECENT_ORDER;
+import static seedu.address.logic.parser.CliSyntax.FLAG_RENAME_TAG;
+import static seedu.address.logic.parser.CliSyntax.FLAG_TELEGRAM_LAUNCH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREFERRED_MODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RENAMED_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TARGET_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.logic.autocomplete.trie.Trie;
+import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LaunchCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Person;
 
 /**
- * Autocompletor class that provides autocomplete hints based on command words.
+ * Autocompletor class that provides autocomplete hints based on command words, and on the prefixes and argument
+ * values of the command being typed.
+ * Argument values are completed from the names, tags and handles of the persons in the address book.
  */
 public class Autocompletor {
+
+    /** The prefixes and flags that each command accepts, in the order they are suggested. */
+    private static final Map<String, List<Prefix>> COMMAND_PREFIXES = Map.of(
+            AddCommand.COMMAND_WORD, List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TELEGRAM,
+                    PREFIX_GITHUB, PREFIX_PREFERRED_MODE, PREFIX_TAG),
+            EditCommand.COMMAND_WORD, List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TELEGRAM,
+                    PREFIX_GITHUB, PREFIX_PREFERRED_MODE, PREFIX_TAG, PREFIX_REMOVE_TAG),
+            FindCommand.COMMAND_WORD, List.of(PREFIX_NAME, PREFIX_TAG),
+            TagCommand.COMMAND_WORD, List.of(FLAG_RENAME_TAG, FLAG_DELETE_TAG, PREFIX_TARGET_TAG,
+                    PREFIX_RENAMED_TAG),
+            ListCommand.COMMAND_WORD, List.of(FLAG_ALPHABETICAL_ORDER, FLAG_RECENT_ORDER),
+            LaunchCommand.COMMAND_WORD, List.of(FLAG_TELEGRAM_LAUNCH, FLAG_GITHUB_LAUNCH));
+
     private final Trie trie;
+    private final PersonVocabulary personVocabulary;
 
     /**
      * Constructs an Autocompletor and initializes possible completions with command words.
      */
     public Autocompletor() {
+        this(FXCollections.observableArrayList());
+    }
+
+    /**
+     * Constructs an Autocompletor that also completes argument values from {@code persons}, following changes to
+     * the list.
+     */
+    public Autocompletor(ObservableList<Person> persons) {
         trie = new Trie();
         for (String c : CommandRegistry.getCommandWords()) {
             trie.put(c);
         }
+        personVocabulary = new PersonVocabulary(persons);
     }
 
     /**
      * Returns the first autocomplete hint for the given input.
+     * The hint is the input with its last word, prefix or argument value completed.
      * If there are no matches, returns an empty string.
      */
     public String getHint(String input) {
@@ -31,12 +87,125 @@ public class Autocompletor {
         }
         String trimmed = input.replaceAll("^(\\s+)", "");
         String leadingWhitespace = input.substring(0, input.length() - trimmed.length());
-        List<String> matches = this.trie.keysWithPrefix(trimmed);
-        if (matches.isEmpty()) {
-            return "";
+        int commandWordEnd = indexOfWhitespace(trimmed);
+        if (commandWordEnd == -1) {
+            // Preserve the original whitespace in the input
+            return completeCommandWord(trimmed).map(match -> leadingWhitespace + match).orElse("");
         }
-        // Preserve the original whitespace in the input
-        return leadingWhitespace + matches.get(0);
+
+        String commandWord = trimmed.substring(0, commandWordEnd);
+        String arguments = trimmed.substring(commandWordEnd);
+        Optional<String> completedArguments = commandWord.equals(HelpCommand.COMMAND_WORD)
+                ? completeLastWord(arguments, this::completeCommandWord)
+                : completeArguments(commandWord, arguments);
+        return completedArguments
+                .map(completed -> input.substring(0, input.length() - arguments.length()) + completed)
+                .orElse("");
+    }
+
+    private Optional<String> completeCommandWord(String prefix) {
+        return trie.keysWithPrefix(prefix, 1).stream().findFirst();
     }
 
+    /**
+     * Completes the last prefix or argument value in {@code arguments} of the command {@code commandWord}.
+     */
+    private Optional<String> completeArguments(String commandWord, String arguments) {
+        List<Prefix> prefixes = COMMAND_PREFIXES.get(commandWord);
+        if (prefixes == null) {
+            return Optional.empty();
+        }
+
+        Optional<String> completedPrefix = completeLastWord(arguments, word -> prefixes.stream()
+                .map(Prefix::getPrefix)
+                .filter(prefix -> prefix.startsWith(word) && !prefix.equals(word))
+                .findFirst());
+        if (completedPrefix.isPresent()) {
+            return completedPrefix;
+        }
+
+        // The value being typed follows the last prefix, which like ArgumentTokenizer requires a space before it
+        Prefix lastPrefix = null;
+        int lastPrefixPosition = -1;
+        for (Prefix prefix : prefixes) {
+            int position = arguments.lastIndexOf(" " + prefix.getPrefix());
+            if (position > lastPrefixPosition) {
+                lastPrefix = prefix;
+                lastPrefixPosition = position;
+            }
+        }
+        if (lastPrefix == null) {
+            return Optional.empty();
+        }
+
+        int valueStart = lastPrefixPosition + 1 + lastPrefix.getPrefix().length();
+        String value = arguments.substring(valueStart).replaceAll("^(\\s+)", "");
+        Optional<Vocabulary> vocabulary = getVocabulary(commandWord, lastPrefix);
+        if (value.isEmpty() || vocabulary.isEmpty()) {
+            return Optional.empty();
+        }
+        String beforeValue = arguments.substring(0, arguments.length() - value.length());
+        if (commandWord.equals(FindCommand.COMMAND_WORD)) {
+            // find matches each keyword separately
+            return completeLastWord(value, vocabulary.get()::complete).map(completed -> beforeValue + completed);
+        }
+        return vocabulary.get().complete(value).map(completed -> beforeValue + completed);
+    }
+
+    /**
+     * Returns the vocabulary that values of {@code prefix} for the command {@code commandWord} are completed from.
+     */
+    private Optional<Vocabulary> getVocabulary(String commandWord, Prefix prefix) {
+        if (prefix.equals(PREFIX_NAME)) {
+            return Optional.of(commandWord.equals(FindCommand.COMMAND_WORD)
+                    ? personVocabulary.getNameWords()
+                    : personVocabulary.getNames());
+        } else if (prefix.equals(PREFIX_TAG)
+                || (prefix.equals(PREFIX_REMOVE_TAG) && commandWord.equals(EditCommand.COMMAND_WORD))) {
+            return Optional.of(personVocabulary.getTags());
+        } else if (prefix.equals(PREFIX_TELEGRAM)) {
+            return Optional.of(personVocabulary.getTelegramHandles());
+        } else if (prefix.equals(PREFIX_GITHUB)) {
+            return Optional.of(personVocabulary.getGithubHandles());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Completes the last whitespace-separated word of {@code text} with {@code completer}, if that word is not empty.
+     */
+    private static Optional<String> completeLastWord(String text, Completer completer) {
+        int wordStart = lastIndexOfWhitespace(text) + 1;
+        String word = text.substring(wordStart);
+        if (word.isEmpty()) {
+            return Optional.empty();
+        }
+        return completer.complete(word).map(completed -> text.substring(0, wordStart) + completed);
+    }
+
+    private static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfWhitespace(String text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Completes a word.
+     */
+    @FunctionalInterface
+    private interface Completer {
+        Optional<String> complete(String word);
+    }
 }
@@ -0,0 +1,86 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Computes {@link Autocompletor} hints on a single background thread, so that the thread taking input is never held
+ * up by completion.
+ * A hint is only computed once the input has stopped changing for a short delay, and a hint is only published if no
+ * newer hint has been requested since, so hints for outdated input are discarded rather than shown.
+ */
+public class BackgroundAutocompletor {
+
+    private final Autocompletor autocompletor;
+    private final long debounceDelayMillis;
+    private final Executor publisher;
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocomplete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Identifies the latest request. Requests compare against it to find out if they are outdated. */
+    private final AtomicLong latestRequest = new AtomicLong();
+    private ScheduledFuture<?> pendingRequest;
+
+    /**
+     * Creates a {@code BackgroundAutocompletor} that computes hints with {@code autocompletor} once input has not
+     * changed for {@code debounceDelayMillis}, and hands them to the hint consumer through {@code publisher}.
+     */
+    public BackgroundAutocompletor(Autocompletor autocompletor, long debounceDelayMillis, Executor publisher) {
+        requireNonNull(autocompletor);
+        requireNonNull(publisher);
+        this.autocompletor = autocompletor;
+        this.debounceDelayMillis = debounceDelayMillis;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Requests the hint for {@code input}, to be passed to {@code hintConsumer} on the publisher unless another hint
+     * is requested or the request is cancelled in the meantime.
+     */
+    public synchronized void requestHint(String input, Consumer<String> hintConsumer) {
+        requireNonNull(input);
+        requireNonNull(hintConsumer);
+        long request = latestRequest.incrementAndGet();
+        cancelPendingRequest();
+        pendingRequest = worker.schedule(() -> computeHint(request, input, hintConsumer),
+                debounceDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Discards the hint requested last, if it has not been published yet.
+     */
+    public synchronized void cancel() {
+        latestRequest.incrementAndGet();
+        cancelPendingRequest();
+    }
+
+    private void cancelPendingRequest() {
+        if (pendingRequest != null) {
+            pendingRequest.cancel(false);
+            pendingRequest = null;
+        }
+    }
+
+    private void computeHint(long request, String input, Consumer<String> hintConsumer) {
+        if (request != latestRequest.get()) {
+            return;
+        }
+        String hint = autocompletor.getHint(input);
+        publisher.execute(() -> {
+            // The input may have changed while the hint was being computed or waiting to be published
+            if (request == latestRequest.get()) {
+                hintConsumer.accept(hint);
+            }
+        });
+    }
+}
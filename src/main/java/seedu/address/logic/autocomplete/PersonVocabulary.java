@@ -0,0 +1,95 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The names, tags and handles of a list of persons, for completing command arguments.
+ * The vocabularies are updated from the changes to the list as they happen, rather than by rescanning it.
+ */
+public class PersonVocabulary {
+
+    private final Vocabulary names = new Vocabulary();
+    private final Vocabulary nameWords = new Vocabulary();
+    private final Vocabulary tags = new Vocabulary();
+    private final Vocabulary telegramHandles = new Vocabulary();
+    private final Vocabulary githubHandles = new Vocabulary();
+
+    /**
+     * Creates a {@code PersonVocabulary} of {@code persons} that follows changes to the list.
+     */
+    public PersonVocabulary(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /** Returns the full names of the persons. */
+    public Vocabulary getNames() {
+        return names;
+    }
+
+    /** Returns the words in the names of the persons, as matched by {@code find}. */
+    public Vocabulary getNameWords() {
+        return nameWords;
+    }
+
+    /** Returns the tag names of the persons. */
+    public Vocabulary getTags() {
+        return tags;
+    }
+
+    /** Returns the Telegram handles of the persons. */
+    public Vocabulary getTelegramHandles() {
+        return telegramHandles;
+    }
+
+    /** Returns the GitHub handles of the persons. */
+    public Vocabulary getGithubHandles() {
+        return githubHandles;
+    }
+
+    private void add(Person person) {
+        names.add(person.getName().fullName);
+        for (String word : person.getName().fullName.split("\\s+")) {
+            nameWords.add(word);
+        }
+        for (Tag tag : person.getTags()) {
+            tags.add(tag.tagName);
+        }
+        if (person.getTelegram().value != null) {
+            telegramHandles.add(person.getTelegram().value);
+        }
+        if (person.getGithub().value != null) {
+            githubHandles.add(person.getGithub().value);
+        }
+    }
+
+    private void remove(Person person) {
+        names.remove(person.getName().fullName);
+        for (String word : person.getName().fullName.split("\\s+")) {
+            nameWords.remove(word);
+        }
+        for (Tag tag : person.getTags()) {
+            tags.remove(tag.tagName);
+        }
+        if (person.getTelegram().value != null) {
+            telegramHandles.remove(person.getTelegram().value);
+        }
+        if (person.getGithub().value != null) {
+            githubHandles.remove(person.getGithub().value);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.logic.autocomplete.trie.Trie;
+
+/**
+ * A multiset of words that completes a prefix, ignoring case, to the word that occurs most often.
+ * Words differing only in case are kept apart, so a completion is always a word exactly as it was added.
+ * Methods are synchronized so that completions can be computed while the words are being updated.
+ */
+public class Vocabulary {
+
+    /** Separates the lower-cased form of a word, which is matched against, from the word itself in trie keys. */
+    private static final char SEPARATOR = '\0';
+
+    private final Trie trie = new Trie();
+
+    /**
+     * Adds one occurrence of {@code word}.
+     */
+    public synchronized void add(String word) {
+        requireNonNull(word);
+        trie.put(toKey(word));
+    }
+
+    /**
+     * Removes one occurrence of {@code word}, if present.
+     */
+    public synchronized void remove(String word) {
+        requireNonNull(word);
+        trie.remove(toKey(word));
+    }
+
+    /**
+     * Returns the most frequent word that starts with {@code prefix}, ignoring case, if any.
+     */
+    public synchronized Optional<String> complete(String prefix) {
+        requireNonNull(prefix);
+        List<String> keys = trie.keysWithPrefix(prefix.toLowerCase(Locale.ROOT), 1);
+        return keys.stream().findFirst().map(key -> key.substring(key.indexOf(SEPARATOR) + 1));
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT) + SEPARATOR + word;
+    }
+}
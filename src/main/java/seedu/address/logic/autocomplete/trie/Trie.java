@@ -1,22 +1,97 @@
 package seedu.address.logic.autocomplete.trie;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /**
  * Trie data structure used chiefly for autocomplete feature.
- * This implementation is adapted from
- * (<a href="https://algs4.cs.princeton.edu/52trie/TrieST.java.html">Princeton's TrieST</a>)
- * It contains a subset of features with a 256-way trie for extended ASCII characters.
+ * It is a radix tree: chains of nodes with a single child are compressed into one edge labelled with a string, and
+ * each node only holds as many children as it has, so keys of any characters can be stored compactly.
+ * Every key has a frequency, the number of times it was put, and lookups return keys from the most to the least
+ * frequent, breaking ties in lexicographic order.
  */
 public class Trie {
-    private static final int R = 256; // Use extended ASCII set
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingLong((Candidate candidate) -> -candidate.frequency)
+            .thenComparing(candidate -> candidate.path)
+            .thenComparing(candidate -> candidate.node != null);
 
-    private Node root;
+    private final Node root = new Node("");
+    private int size;
 
     private static class Node {
-        private boolean isWord = false;
-        private Node[] next = new Node[R];
+        private static final char[] NO_FIRST_CHARS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        /** The characters on the edge from the parent to this node. */
+        private String label;
+        /** The frequency of the key ending at this node, or 0 if no key ends here. */
+        private long frequency;
+        /** The highest frequency of any key in the subtree rooted at this node. */
+        private long maxFrequency;
+        /** The first character of each child's label, in ascending order. */
+        private char[] firstChars = NO_FIRST_CHARS;
+        private Node[] children = NO_CHILDREN;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with {@code c}, or {@code -(insertion point) - 1}.
+         */
+        private int indexOf(char c) {
+            return Arrays.binarySearch(firstChars, c);
+        }
+
+        private void insertChild(int index, Node child) {
+            char[] newFirstChars = new char[firstChars.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(firstChars, 0, newFirstChars, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newFirstChars[index] = child.label.charAt(0);
+            newChildren[index] = child;
+            System.arraycopy(firstChars, index, newFirstChars, index + 1, firstChars.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            firstChars = newFirstChars;
+            children = newChildren;
+        }
+
+        private void removeChild(int index) {
+            char[] newFirstChars = new char[firstChars.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(firstChars, 0, newFirstChars, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(firstChars, index + 1, newFirstChars, index, newFirstChars.length - index);
+            System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+            firstChars = newFirstChars;
+            children = newChildren;
+        }
+
+        private void updateMaxFrequency() {
+            maxFrequency = frequency;
+            for (Node child : children) {
+                maxFrequency = Math.max(maxFrequency, child.maxFrequency);
+            }
+        }
+    }
+
+    /**
+     * A key, or a subtree of keys, waiting to be returned by a lookup, ranked by the highest frequency it can yield.
+     */
+    private static class Candidate {
+        private final Node node;
+        private final String path;
+        private final long frequency;
+
+        private Candidate(Node node, String path, long frequency) {
+            this.node = node;
+            this.path = path;
+            this.frequency = frequency;
+        }
     }
 
     /**
@@ -27,68 +102,220 @@ public class Trie {
     }
 
     /**
-     * Inserts the key into the trie.
+     * Inserts the key into the trie, or increases its frequency by one if it is already present.
      * @param key the key to insert
      * @throws IllegalArgumentException if key is null
      */
     public void put(String key) {
+        put(key, 1);
+    }
+
+    /**
+     * Inserts the key into the trie with the given frequency, or increases its frequency by that much if it is
+     * already present.
+     * @param key the key to insert
+     * @param frequency how much to increase the frequency of the key by
+     * @throws IllegalArgumentException if key is null or frequency is not positive
+     */
+    public void put(String key, long frequency) {
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
-        root = put(root, key, 0);
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+        put(root, key, 0, frequency);
     }
 
-    private Node put(Node x, String key, int d) {
-        if (x == null) {
-            x = new Node();
-        }
+    private void put(Node x, String key, int d, long frequency) {
         if (d == key.length()) {
-            x.isWord = true;
-            return x;
+            if (x.frequency == 0) {
+                size++;
+            }
+            x.frequency += frequency;
+        } else {
+            int i = x.indexOf(key.charAt(d));
+            if (i < 0) {
+                Node leaf = new Node(key.substring(d));
+                leaf.frequency = frequency;
+                leaf.maxFrequency = frequency;
+                x.insertChild(-i - 1, leaf);
+                size++;
+            } else {
+                Node child = x.children[i];
+                int common = commonPrefixLength(child.label, key, d);
+                if (common < child.label.length()) {
+                    child = split(x, i, common);
+                }
+                put(child, key, d + common, frequency);
+            }
         }
-        char c = key.charAt(d);
-        x.next[c] = put(x.next[c], key, d + 1);
-        return x;
+        x.updateMaxFrequency();
     }
 
-    private Node get(Node x, String key, int d) {
-        if (x == null) {
-            return null;
+    /**
+     * Splits the edge to the {@code i}-th child of {@code x} after its first {@code length} characters and returns
+     * the node inserted at the split.
+     */
+    private static Node split(Node x, int i, int length) {
+        Node child = x.children[i];
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.insertChild(0, child);
+        middle.maxFrequency = child.maxFrequency;
+        x.children[i] = middle;
+        return middle;
+    }
+
+    /**
+     * Decreases the frequency of the key by one, removing it from the trie when its frequency reaches zero.
+     * @param key the key to remove
+     * @return true if the key was present
+     * @throws IllegalArgumentException if key is null
+     */
+    public boolean remove(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
         }
+        return remove(root, key, 0);
+    }
+
+    private boolean remove(Node x, String key, int d) {
         if (d == key.length()) {
-            return x;
+            if (x.frequency == 0) {
+                return false;
+            }
+            x.frequency--;
+            if (x.frequency == 0) {
+                size--;
+            }
+        } else {
+            int i = x.indexOf(key.charAt(d));
+            if (i < 0 || !key.startsWith(x.children[i].label, d)) {
+                return false;
+            }
+            Node child = x.children[i];
+            if (!remove(child, key, d + child.label.length())) {
+                return false;
+            }
+            if (child.frequency == 0 && child.children.length == 0) {
+                x.removeChild(i);
+            } else if (child.frequency == 0 && child.children.length == 1) {
+                // Merge the now redundant node into its only child to keep the tree compressed
+                Node grandchild = child.children[0];
+                grandchild.label = child.label + grandchild.label;
+                x.children[i] = grandchild;
+            }
+        }
+        x.updateMaxFrequency();
+        return true;
+    }
+
+    /**
+     * Returns the frequency of the key, or 0 if it is not in the trie.
+     * @throws IllegalArgumentException if key is null
+     */
+    public long frequencyOf(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
         }
-        char c = key.charAt(d);
-        return get(x.next[c], key, d + 1);
+        Node x = root;
+        int d = 0;
+        while (d < key.length()) {
+            int i = x.indexOf(key.charAt(d));
+            if (i < 0 || !key.startsWith(x.children[i].label, d)) {
+                return 0;
+            }
+            x = x.children[i];
+            d += x.label.length();
+        }
+        return x.frequency;
     }
 
     /**
-     * Returns all keys in the trie that start with the given prefix.
+     * Returns the number of distinct keys in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns all keys in the trie that start with the given prefix, from the most to the least frequent.
      * @param prefix the prefix to search for
      * @return a list of keys that start with the given prefix
      * @throws IllegalArgumentException if prefix is null
      */
     public List<String> keysWithPrefix(String prefix) {
+        return keysWithPrefix(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the {@code limit} most frequent keys in the trie that start with the given prefix, from the most to
+     * the least frequent. Only the parts of the trie that can hold such keys are visited.
+     * @param prefix the prefix to search for
+     * @param limit the maximum number of keys to return
+     * @return a list of at most {@code limit} keys that start with the given prefix
+     * @throws IllegalArgumentException if prefix is null or limit is negative
+     */
+    public List<String> keysWithPrefix(String prefix, int limit) {
         if (prefix == null) {
             throw new IllegalArgumentException("Prefix cannot be null");
         }
-        List<String> results = new LinkedList<>();
-        Node x = get(root, prefix, 0);
-        collect(x, new StringBuilder(prefix), results);
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        List<String> results = new ArrayList<>();
+        Node x = root;
+        String path = "";
+        int d = 0;
+        while (d < prefix.length()) {
+            int i = x.indexOf(prefix.charAt(d));
+            if (i < 0) {
+                return results;
+            }
+            x = x.children[i];
+            int common = commonPrefixLength(x.label, prefix, d);
+            if (common < x.label.length() && d + common < prefix.length()) {
+                return results;
+            }
+            path = prefix.substring(0, d) + x.label;
+            d += x.label.length();
+        }
+        collect(x, path, limit, results);
         return results;
     }
 
-    private void collect(Node x, StringBuilder prefix, List<String> results) {
-        if (x == null) {
-            return;
-        }
-        if (x.isWord) {
-            results.add(prefix.toString());
+    /**
+     * Adds the {@code limit} most frequent keys under {@code x} to {@code results}, expanding the subtrees that can
+     * hold the most frequent remaining key first.
+     */
+    private void collect(Node x, String path, int limit, List<String> results) {
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(RANKING);
+        candidates.add(new Candidate(x, path, x.maxFrequency));
+        while (!candidates.isEmpty() && results.size() < limit) {
+            Candidate candidate = candidates.poll();
+            if (candidate.node == null) {
+                results.add(candidate.path);
+                continue;
+            }
+            if (candidate.node.frequency > 0) {
+                candidates.add(new Candidate(null, candidate.path, candidate.node.frequency));
+            }
+            for (Node child : candidate.node.children) {
+                candidates.add(new Candidate(child, candidate.path + child.label, child.maxFrequency));
+            }
         }
-        for (char c = 0; c < R; c++) {
-            prefix.append(c);
-            collect(x.next[c], prefix, results);
-            prefix.deleteCharAt(prefix.length() - 1);
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and {@code key.substring(d)}.
+     */
+    private static int commonPrefixLength(String label, String key, int d) {
+        int limit = Math.min(label.length(), key.length() - d);
+        int i = 0;
+        while (i < limit && label.charAt(i) == key.charAt(d + i)) {
+            i++;
         }
+        return i;
     }
 }
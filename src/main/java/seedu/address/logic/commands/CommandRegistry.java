@@ -18,6 +18,7 @@ import seedu.address.logic.parser.HelpCommandParser;
 import seedu.address.logic.parser.LaunchCommandParser;
 import seedu.address.logic.parser.ListCommandParser;
 import seedu.address.logic.parser.PinCommandParser;
+import seedu.address.logic.parser.RunCommandParser;
 import seedu.address.logic.parser.TagCommandParser;
 import seedu.address.logic.parser.UnpinCommandParser;
 
@@ -44,6 +45,7 @@ public class CommandRegistry {
             "ListCommand",
             "LaunchCommand",
             "PinCommand",
+            "RunCommand",
             "UnpinCommand",
             "TagCommand"
     );
@@ -157,6 +159,7 @@ public class CommandRegistry {
         commandFactoryMap.put(LaunchCommand.COMMAND_WORD, (args) -> new LaunchCommandParser().parse(args));
         commandFactoryMap.put(ExportCommand.COMMAND_WORD, (args) -> new ExportCommandParser().parse(args));
         commandFactoryMap.put(PinCommand.COMMAND_WORD, (args) -> new PinCommandParser().parse(args));
+        commandFactoryMap.put(RunCommand.COMMAND_WORD, (args) -> new RunCommandParser().parse(args));
         commandFactoryMap.put(UnpinCommand.COMMAND_WORD, (args) -> new UnpinCommandParser().parse(args));
         commandFactoryMap.put(TagCommand.COMMAND_WORD, (args) -> new TagCommandParser().parse(args));
 
@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Runs the commands in a script file, one per line, as a single command.
+ * The script either takes effect as a whole or, if any line fails, not at all. Its changes are saved once, after the
+ * last line, rather than after every line.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line. Blank lines and lines starting with "
+            + RunCommand.COMMENT_MARKER + " are skipped.\n"
+            + "If any command fails, none of the commands take effect.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/onboarding.txt";
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s.";
+    public static final String MESSAGE_READ_FAILURE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_SCRIPT_FAILED = "No changes were made, as %1$d line(s) of %2$s failed:\n%3$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_LINES_FAILED = "... and %1$d more";
+    public static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts.";
+    public static final String MESSAGE_CONFIRMATION_REQUIRED =
+            "This command asks for confirmation, so it cannot be run from a script.";
+
+    /** The number of failed lines listed, so that a broken script does not flood the result display. */
+    static final int MAX_LINES_REPORTED = 10;
+
+    private final Path filePath;
+
+    /**
+     * Creates a RunCommand to run the script at {@code filePath}.
+     */
+    public RunCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ReadOnlyAddressBook original = new AddressBook(model.getAddressBook());
+        AddressBookParser parser = new AddressBookParser();
+        List<String> failures = new ArrayList<>();
+        int commandCount = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    runLine(parser, commandText, model);
+                } catch (CommandException | ParseException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            model.setAddressBook(original);
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, e.getMessage()), e);
+        }
+
+        if (!failures.isEmpty()) {
+            model.setAddressBook(original);
+            throw new CommandException(String.format(MESSAGE_SCRIPT_FAILED, failures.size(), filePath,
+                    summarize(failures)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, filePath));
+    }
+
+    private static void runLine(AddressBookParser parser, String commandText, Model model)
+            throws CommandException, ParseException {
+        Command command = parser.parseCommand(commandText);
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_RUN);
+        }
+        CommandResult result = command.execute(model);
+        if (result instanceof ConfirmationPendingResult) {
+            throw new CommandException(MESSAGE_CONFIRMATION_REQUIRED);
+        }
+    }
+
+    private static String summarize(List<String> failures) {
+        List<String> reported = new ArrayList<>(failures.subList(0, Math.min(failures.size(), MAX_LINES_REPORTED)));
+        if (failures.size() > MAX_LINES_REPORTED) {
+            reported.add(String.format(MESSAGE_MORE_LINES_FAILED, failures.size() - MAX_LINES_REPORTED));
+        }
+        return String.join("\n", reported);
+    }
+
+    @Override
+    public boolean requiresWrite() {
+        return true;
+    }
+
+    /**
+     * Registers this command's help information with the CommandRegistry.
+     */
+    public static void registerHelp() {
+        CommandRegistry.register(
+                COMMAND_WORD,
+                "Runs the commands in a file as one command",
+                "Example: " + COMMAND_WORD + " data/onboarding.txt",
+                MESSAGE_USAGE
+        );
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -6,8 +6,9 @@ import static seedu.address.logic.parser.CliSyntax.FLAG_RENAME_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RENAMED_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TARGET_TAG;
 
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -87,13 +88,11 @@ public class TagCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> lastShownList = model.getSortedAndFilteredPersonList();
-
         switch (tagOperation) {
         case RENAME:
-            return executeRenameTags(model, lastShownList);
+            return executeRenameTags(model);
         case DELETE:
-            return executeDeleteTags(model, lastShownList);
+            return executeDeleteTags(model);
         default:
             throw new CommandException(MESSAGE_INVALID_OPERATION);
         }
@@ -101,63 +100,71 @@ public class TagCommand extends Command {
 
     /**
      * Executes the TagCommand given the rename flag {@code -r} and returns the result message.
+     * Only the persons in the displayed person list are renamed, and they are all updated in a single change.
      *
      * @param model         {@code Model} which the command should operate on.
-     * @param lastShownList {@code lastShownList} which the command should iterate on.
      * @return feedback message of the rename tag result for display
      * @throws CommandException
      */
-    private CommandResult executeRenameTags(Model model, List<Person> lastShownList) throws CommandException {
+    private CommandResult executeRenameTags(Model model) throws CommandException {
         assert tagOperation == TagOperation.RENAME;
         assert targetTags.size() == 1;
 
         Tag targetTag = targetTags.iterator().next();
         Tag renamedTag = renamedTags.iterator().next();
-        int updatedCount = 0;
 
-        for (Person personToEdit : lastShownList) {
-            // Skip people who don't have the target tag
-            if (!personToEdit.getTags().contains(targetTag)) {
-                continue;
-            }
-            Person updatedPerson = createPerson(personToEdit);
-            model.setPerson(personToEdit, updatedPerson);
-            updatedCount++;
+        Map<Person, Person> editedPersons = new HashMap<>();
+        for (Person personToEdit : model.getFilteredPersonsWithTag(targetTag)) {
+            editedPersons.put(personToEdit, createPerson(personToEdit, getUpdatedTagSet(personToEdit)));
         }
 
-        if (updatedCount == 0) {
+        if (editedPersons.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_TAG_FAILURE, targetTags));
         }
 
-        return new CommandResult(String.format(MESSAGE_RENAMED_SUCCESS, targetTag, renamedTag, updatedCount));
+        model.replacePersons(editedPersons);
+        return new CommandResult(String.format(MESSAGE_RENAMED_SUCCESS, targetTag, renamedTag, editedPersons.size()));
     }
 
     /**
      * Executes the TagCommand to delete tag given the delete flag {@code -d} and returns the result message.
+     * Only the persons in the displayed person list lose the tags, and they are all updated in a single change.
      *
      * @param model         {@code Model} which the command should operate on.
-     * @param lastShownList {@code lastShownList} which the command should iterate on.
      * @return feedback message of the deleted tags result for display
      * @throws CommandException
      */
-    private CommandResult executeDeleteTags(Model model, List<Person> lastShownList) throws CommandException {
+    private CommandResult executeDeleteTags(Model model) throws CommandException {
         assert tagOperation == TagOperation.DELETE;
         assert !targetTags.isEmpty();
 
         Set<Tag> deletedTags = new HashSet<>();
         Set<Tag> notFoundTags = new HashSet<>();
+        Map<Person, Set<Tag>> remainingTags = new HashMap<>();
 
         for (Tag tagToDelete : targetTags) {
-            boolean isTagFoundAndDeleted = processTagForDeletion(model, lastShownList, tagToDelete);
-            updateTagResultSets(deletedTags, notFoundTags, tagToDelete, isTagFoundAndDeleted);
+            Set<Person> personsWithTag = model.getFilteredPersonsWithTag(tagToDelete);
+            for (Person personToEdit : personsWithTag) {
+                remainingTags.computeIfAbsent(personToEdit, person -> new HashSet<>(person.getTags()))
+                        .remove(tagToDelete);
+            }
+            updateTagResultSets(deletedTags, notFoundTags, tagToDelete, !personsWithTag.isEmpty());
+        }
+
+        if (!remainingTags.isEmpty()) {
+            Map<Person, Person> editedPersons = new HashMap<>();
+            remainingTags.forEach((personToEdit, tags) -> editedPersons.put(personToEdit,
+                    createPerson(personToEdit, tags)));
+            model.replacePersons(editedPersons);
         }
 
         return buildResult(deletedTags, notFoundTags);
     }
 
-    private Person createPerson(Person personToEdit) {
-        Set<Tag> updatedTagSet = getUpdatedTagSet(personToEdit);
-
+    /**
+     * Returns a copy of {@code personToEdit} with its tags replaced by {@code tags}.
+     */
+    private Person createPerson(Person personToEdit, Set<Tag> tags) {
         return new Person(
                 personToEdit.getName(),
                 personToEdit.getPhone(),
@@ -165,7 +172,7 @@ public class TagCommand extends Command {
                 personToEdit.getTelegram(),
                 personToEdit.getGithub(),
                 personToEdit.getPreferredMode(),
-                updatedTagSet,
+                tags,
                 personToEdit.getPinnedAt().orElse(null)
         );
     }
@@ -182,56 +189,6 @@ public class TagCommand extends Command {
         return baseTags;
     }
 
-    /**
-     * Processes a single tag for deletion across all persons in the list.
-     *
-     * @param model The model to update.
-     * @param lastShownList The list of persons to process.
-     * @param tagToDelete The tag to be deleted.
-     * @return true if the tag was found and deleted from at least one person, false otherwise.
-     */
-    private boolean processTagForDeletion(Model model, List<Person> lastShownList, Tag tagToDelete) {
-        boolean isTagFoundAndDeleted = false;
-
-        for (Person personToEdit : lastShownList) {
-            Person personWithTagRemoved = removeTagFromPerson(personToEdit, tagToDelete);
-
-            if (!personWithTagRemoved.equals(personToEdit)) {
-                model.setPerson(personToEdit, personWithTagRemoved);
-                isTagFoundAndDeleted = true;
-            }
-        }
-        return isTagFoundAndDeleted;
-    }
-
-    /**
-     * Removes a {@code Tag} from the {@code Person} if found.
-     *
-     * @param personToEdit The Person to be updated.
-     * @param tagToDelete The tag to remove from the Person tag list.
-     * @return The Person with tag removed if tag found, personToEdit otherwise.
-     */
-    private Person removeTagFromPerson(Person personToEdit, Tag tagToDelete) {
-        Set<Tag> tags = new HashSet<>(personToEdit.getTags());
-
-        boolean isTagFound = tags.remove(tagToDelete);
-
-        if (!isTagFound) {
-            return personToEdit;
-        }
-
-        return new Person(
-                personToEdit.getName(),
-                personToEdit.getPhone(),
-                personToEdit.getEmail(),
-                personToEdit.getTelegram(),
-                personToEdit.getGithub(),
-                personToEdit.getPreferredMode(),
-                tags,
-                personToEdit.getPinnedAt().orElse(null)
-        );
-    }
-
     /**
      * Updates the sets of deleted and not found tags based on the operation result.
      *
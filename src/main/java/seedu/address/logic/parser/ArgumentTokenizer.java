@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -15,6 +15,11 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    /** Automatons for the sets of prefixes tokenized so far, which are few since they are fixed by each parser. */
+    private static final Map<List<Prefix>, PrefixAutomaton> automatons = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,124 +29,110 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+        PrefixAutomaton automaton = getAutomaton(prefixes);
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+
+        // Sweep once from left to right. A prefix is only recognized if there is a whitespace before it.
+        // E.g. in "e/hip/900" there is no "p/", but in "e/hi p/900" there is a "p/" at index 5.
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        int i = 1;
+        while (i < argsString.length()) {
+            Prefix prefix = argsString.charAt(i - 1) == ' ' ? automaton.match(argsString, i) : null;
+            if (prefix == null) {
+                i++;
+                continue;
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStart, i).trim());
+            currentPrefix = prefix;
+            valueStart = i + prefix.getPrefix().length();
+            i = valueStart;
         }
+        argMultimap.put(currentPrefix, argsString.substring(Math.min(valueStart, argsString.length())).trim());
 
         return argMultimap;
     }
 
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static PrefixAutomaton getAutomaton(Prefix... prefixes) {
+        PrefixAutomaton automaton = automatons.get(Arrays.asList(prefixes));
+        if (automaton == null) {
+            // Copy the key, since the caller may reuse its array
+            List<Prefix> key = List.copyOf(Arrays.asList(prefixes));
+            automaton = new PrefixAutomaton(key);
+            automatons.putIfAbsent(key, automaton);
+        }
+        return automaton;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A trie over the characters of a set of prefixes, which finds the prefix starting at a position in a string
+     * without building any substrings.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static class PrefixAutomaton {
+        private static final char[] NO_CHARS = new char[0];
+        private static final PrefixAutomaton[] NO_STATES = new PrefixAutomaton[0];
+
+        /** The prefix ending at this state, if any. */
+        private Prefix prefix;
+        /** The characters leading out of this state, in ascending order, and the states they lead to. */
+        private char[] chars = NO_CHARS;
+        private PrefixAutomaton[] next = NO_STATES;
+
+        private PrefixAutomaton() {}
+
+        /**
+         * Creates the start state of an automaton recognizing {@code prefixes}. Empty prefixes are not recognized.
+         */
+        PrefixAutomaton(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                if (prefix.getPrefix().isEmpty()) {
+                    continue;
+                }
+                PrefixAutomaton state = this;
+                for (char c : prefix.getPrefix().toCharArray()) {
+                    state = state.getOrAddNext(c);
+                }
+                state.prefix = prefix;
+            }
         }
 
-        int getStartPosition() {
-            return startPosition;
+        private PrefixAutomaton getOrAddNext(char c) {
+            int index = Arrays.binarySearch(chars, c);
+            if (index >= 0) {
+                return next[index];
+            }
+            int insertionPoint = -index - 1;
+            PrefixAutomaton state = new PrefixAutomaton();
+            char[] newChars = new char[chars.length + 1];
+            PrefixAutomaton[] newNext = new PrefixAutomaton[next.length + 1];
+            System.arraycopy(chars, 0, newChars, 0, insertionPoint);
+            System.arraycopy(next, 0, newNext, 0, insertionPoint);
+            newChars[insertionPoint] = c;
+            newNext[insertionPoint] = state;
+            System.arraycopy(chars, insertionPoint, newChars, insertionPoint + 1, chars.length - insertionPoint);
+            System.arraycopy(next, insertionPoint, newNext, insertionPoint + 1, next.length - insertionPoint);
+            chars = newChars;
+            next = newNext;
+            return state;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * Returns the longest prefix that occurs in {@code text} at {@code start}, or null if there is none.
+         */
+        Prefix match(String text, int start) {
+            Prefix longestMatch = null;
+            PrefixAutomaton state = this;
+            for (int i = start; i < text.length(); i++) {
+                int index = Arrays.binarySearch(state.chars, text.charAt(i));
+                if (index < 0) {
+                    break;
+                }
+                state = state.next[index];
+                if (state.prefix != null) {
+                    longestMatch = state.prefix;
+                }
+            }
+            return longestMatch;
         }
     }
 
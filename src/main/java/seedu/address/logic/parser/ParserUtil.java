@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
@@ -28,6 +29,7 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
     private static final Logger logger = LogsCenter.getLogger(ParserUtil.class);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -50,7 +52,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        String nameWithoutAdditionalSpace = trimmedName.replaceAll("\\s+", " ");
+        String nameWithoutAdditionalSpace = WHITESPACE.matcher(trimmedName).replaceAll(" ");
         if (!Name.isValidName(nameWithoutAdditionalSpace)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
@@ -193,7 +195,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -2,12 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +21,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonSearchIndex searchIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +32,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        searchIndex = new PersonSearchIndex();
     }
 
     public AddressBook() {}
@@ -45,7 +52,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        searchIndex.setPersons(persons);
+        try {
+            this.persons.setPersons(persons);
+        } catch (RuntimeException e) {
+            searchIndex.setPersons(this.persons.asUnmodifiableObservableList());
+            throw e;
+        }
     }
 
     /**
@@ -72,7 +85,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        searchIndex.add(p);
+        try {
+            persons.add(p);
+        } catch (RuntimeException e) {
+            searchIndex.remove(p);
+            throw e;
+        }
     }
 
     /**
@@ -83,7 +102,42 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        // The target is removed first, so that replacing a person with itself leaves it in the index
+        boolean wasIndexed = searchIndex.remove(target);
+        searchIndex.add(editedPerson);
+        try {
+            persons.setPerson(target, editedPerson);
+        } catch (RuntimeException e) {
+            searchIndex.remove(editedPerson);
+            if (wasIndexed) {
+                searchIndex.add(target);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces each person in the address book that is a key of {@code editedPersons} with its value, as a single
+     * change to the person list. Each key must exist in the address book.
+     * The person identities of the values must differ from each other and from the other persons in the address book.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        List<Person> indexedTargets = new ArrayList<>();
+        for (Person target : editedPersons.keySet()) {
+            if (searchIndex.remove(target)) {
+                indexedTargets.add(target);
+            }
+        }
+        editedPersons.values().forEach(searchIndex::add);
+        try {
+            persons.replacePersons(editedPersons);
+        } catch (RuntimeException e) {
+            editedPersons.values().forEach(searchIndex::remove);
+            indexedTargets.forEach(searchIndex::add);
+            throw e;
+        }
     }
 
     /**
@@ -92,6 +146,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        searchIndex.remove(key);
+    }
+
+    /**
+     * Returns the insertion sequence number of {@code person}, which orders persons by when they were added,
+     * or -1 if {@code person} is not in the address book. Edits keep a person's sequence number.
+     *
+     * @see UniquePersonList#getSequenceNumber(Person)
+     */
+    public long getSequenceNumber(Person person) {
+        return persons.getSequenceNumber(person);
+    }
+
+    /**
+     * Returns the persons in the address book having {@code tag}.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        return searchIndex.findByTag(tag);
+    }
+
+    /**
+     * Returns the index of the words in persons' names and tags.
+     * The index is kept up to date before each change to the person list is published, so filters on the list
+     * can look persons up in it.
+     */
+    PersonSearchIndex getSearchIndex() {
+        return searchIndex;
     }
 
     //// util methods
@@ -1,14 +1,28 @@
 package seedu.address.model;
 
-import java.util.LinkedList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents the user's command history.
+ * The latest commands are kept in a ring buffer, so adding a command and reading any kept command take O(1) time.
+ * Each command has a sequence number, the number of commands added before it, which lets storage append only the
+ * commands added since it last saved.
  */
 public class CommandHistory implements ReadOnlyCommandHistory {
-    private static final int HISTORY_CAPACITY = 15;
-    private final LinkedList<String> commandHistory;
+    /** The number of latest commands that are kept. */
+    public static final int HISTORY_CAPACITY = 10_000;
+    private static final int INITIAL_BUFFER_SIZE = 16;
+
+    /** The kept commands. The command with sequence number {@code s} is at {@code s % commands.length}. */
+    private String[] commands = new String[INITIAL_BUFFER_SIZE];
+    private int size;
+    /** The number of commands ever added, which is also the sequence number of the next command. */
+    private long commandCount;
+    /** Built on the first search, as most histories are never searched. */
+    private CommandSearchIndex searchIndex;
     /**
      * Represents the index of the history tree. -1 represents the input that the user is currently typing in the
      * command box, any value above that is the index of the command history list.
@@ -18,33 +32,90 @@ public class CommandHistory implements ReadOnlyCommandHistory {
 
 
     /**
-     * Creates a {@code CommandHistoryManager} with default capacity of 15 commands.
+     * Creates an empty {@code CommandHistory} that keeps the latest {@value #HISTORY_CAPACITY} commands.
      */
     public CommandHistory() {
-        this.commandHistory = new LinkedList<>();
     }
 
     /**
      * Creates a CommandHistory object with the data in {@code commandHistory}.
      */
     public CommandHistory(ReadOnlyCommandHistory commandHistory) {
-        this.commandHistory = new LinkedList<>();
-        this.commandHistory.addAll(commandHistory.getHistory());
+        this(commandHistory.getCommandsSince(0), commandHistory.getCommandCount());
+    }
+
+    /**
+     * Creates a CommandHistory object holding {@code latestCommands}, oldest first, as the latest commands of a
+     * history of {@code commandCount} commands.
+     */
+    private CommandHistory(List<String> latestCommands, long commandCount) {
+        this.commandCount = commandCount - latestCommands.size();
+        latestCommands.forEach(this::addCommandToHistory);
+    }
+
+    /**
+     * Returns a copy of the commands of {@code commandHistory} that were added after its first {@code commandCount}
+     * commands, keeping their sequence numbers.
+     */
+    public static CommandHistory copySince(ReadOnlyCommandHistory commandHistory, long commandCount) {
+        return new CommandHistory(commandHistory.getCommandsSince(commandCount), commandHistory.getCommandCount());
     }
 
     /**
-     * Adds a command to the history.
+     * Adds a command to the history, dropping the oldest command if the history is full.
      *
      * @param command The command to be added.
      */
     public void addCommandToHistory(String command) {
         assert !command.isBlank() : "A valid command should not be blank!";
 
-        this.commandHistory.addFirst(command);
+        if (size == commands.length) {
+            if (commands.length < HISTORY_CAPACITY) {
+                grow();
+            } else {
+                removeOldest();
+            }
+        }
+        commands[slotOf(commandCount)] = command;
+        commandCount++;
+        size++;
         this.indexInHistory = -1;
-        if (commandHistory.size() > HISTORY_CAPACITY) {
-            commandHistory.removeLast();
+    }
+
+    private void grow() {
+        String[] newCommands = new String[Math.min(commands.length * 2, HISTORY_CAPACITY)];
+        for (long sequence = getOldestSequence(); sequence < commandCount; sequence++) {
+            newCommands[(int) (sequence % newCommands.length)] = commands[slotOf(sequence)];
         }
+        commands = newCommands;
+    }
+
+    private void removeOldest() {
+        long oldest = getOldestSequence();
+        if (searchIndex != null) {
+            searchIndex.removeOldest(oldest, commands[slotOf(oldest)]);
+        }
+        commands[slotOf(oldest)] = null;
+        size--;
+    }
+
+    private int slotOf(long sequence) {
+        return (int) (sequence % commands.length);
+    }
+
+    private long getOldestSequence() {
+        return commandCount - size;
+    }
+
+    private String getCommand(long sequence) {
+        return commands[slotOf(sequence)];
+    }
+
+    /**
+     * Returns the command {@code index} commands before the latest one.
+     */
+    private String getCommandBeforeLatest(int index) {
+        return getCommand(commandCount - 1 - index);
     }
 
     /**
@@ -54,18 +125,18 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      */
     @Override
     public String getNextCommandFromHistory() {
-        if (commandHistory.isEmpty()) {
+        if (size == 0) {
             return null;
         }
 
         indexInHistory = Math.max(indexInHistory - 1, -1);
 
-        assert indexInHistory < commandHistory.size() : "Next index can't be larger than list size!";
+        assert indexInHistory < size : "Next index can't be larger than list size!";
 
         if (indexInHistory == -1) {
             return currentCommand;
         } else {
-            return commandHistory.get(indexInHistory);
+            return getCommandBeforeLatest(indexInHistory);
         }
     }
 
@@ -76,7 +147,7 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      */
     @Override
     public String getPreviousCommandFromHistory(String currentCommand) {
-        if (commandHistory.isEmpty()) {
+        if (size == 0) {
             return null;
         }
 
@@ -84,17 +155,60 @@ public class CommandHistory implements ReadOnlyCommandHistory {
             this.currentCommand = currentCommand;
         }
 
-        indexInHistory = Math.min(indexInHistory + 1, commandHistory.size() - 1);
+        indexInHistory = Math.min(indexInHistory + 1, size - 1);
 
         assert indexInHistory >= -1 : "Previous index cannot be less than -1!";
 
 
-        return commandHistory.get(indexInHistory);
+        return getCommandBeforeLatest(indexInHistory);
+    }
+
+    @Override
+    public String searchPreviousCommand(String query, String currentCommand) {
+        requireNonNull(query);
+        if (size == 0 || query.isEmpty()) {
+            return null;
+        }
+
+        if (searchIndex == null) {
+            searchIndex = new CommandSearchIndex(this::getCommand);
+        }
+        searchIndex.indexUpTo(getOldestSequence(), commandCount);
+        long before = commandCount - 1 - indexInHistory;
+        long sequence = searchIndex.findBefore(query, before, getOldestSequence());
+        if (sequence < 0) {
+            return null;
+        }
+
+        if (indexInHistory == -1) {
+            this.currentCommand = currentCommand;
+        }
+        indexInHistory = (int) (commandCount - 1 - sequence);
+        return getCommand(sequence);
     }
 
     @Override
     public List<String> getHistory() {
-        return List.copyOf(this.commandHistory);
+        List<String> history = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            history.add(getCommandBeforeLatest(i));
+        }
+        return history;
+    }
+
+    @Override
+    public long getCommandCount() {
+        return commandCount;
+    }
+
+    @Override
+    public List<String> getCommandsSince(long commandCount) {
+        long from = Math.max(commandCount, getOldestSequence());
+        List<String> commandsSince = new ArrayList<>((int) Math.max(this.commandCount - from, 0));
+        for (long sequence = from; sequence < this.commandCount; sequence++) {
+            commandsSince.add(getCommand(sequence));
+        }
+        return commandsSince;
     }
 
     /**
@@ -102,7 +216,10 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      * clearing all saved histories and current navigation state.
      */
     public void clearHistory() {
-        commandHistory.clear();
+        commands = new String[INITIAL_BUFFER_SIZE];
+        size = 0;
+        commandCount = 0;
+        searchIndex = null;
         indexInHistory = -1;
         currentCommand = "";
     }
@@ -119,6 +236,6 @@ public class CommandHistory implements ReadOnlyCommandHistory {
         }
 
         CommandHistory otherHist = (CommandHistory) other;
-        return commandHistory.equals(otherHist.commandHistory);
+        return getCommandsSince(0).equals(otherHist.getCommandsSince(0));
     }
 }
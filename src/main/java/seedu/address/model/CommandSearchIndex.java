@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * An index of the commands in a {@code CommandHistory} by the three-character substrings they contain, ignoring case.
+ * A search for a substring only checks the commands containing its rarest three characters, newest first, instead
+ * of every command in the history. Commands are identified by their sequence numbers in the history.
+ */
+class CommandSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final LongFunction<String> commandAt;
+    /** The sequence numbers of the commands containing each lowercased substring, packed into a long. */
+    private final Map<Long, Postings> postingsByGram = new HashMap<>();
+    /** The number of commands that have been indexed. */
+    private long indexedCount;
+
+    /**
+     * Sequence numbers in ascending order, with room to append new ones and drop the oldest.
+     */
+    private static class Postings {
+        private long[] sequences = new long[4];
+        private int start;
+        private int end;
+
+        private void add(long sequence) {
+            if (end == sequences.length) {
+                long[] newSequences = start > sequences.length / 2 ? sequences : new long[sequences.length * 2];
+                System.arraycopy(sequences, start, newSequences, 0, end - start);
+                sequences = newSequences;
+                end -= start;
+                start = 0;
+            }
+            sequences[end++] = sequence;
+        }
+
+        private void removeFirst() {
+            start++;
+        }
+
+        private int size() {
+            return end - start;
+        }
+
+        /**
+         * Returns the position of the last sequence number below {@code before}, or {@code start - 1} if there is none.
+         */
+        private int lastPositionBefore(long before) {
+            int position = Arrays.binarySearch(sequences, start, end, before);
+            return (position >= 0 ? position : -position - 1) - 1;
+        }
+    }
+
+    /**
+     * Creates an empty index of the commands returned by {@code commandAt} for each sequence number.
+     */
+    CommandSearchIndex(LongFunction<String> commandAt) {
+        this.commandAt = commandAt;
+    }
+
+    /**
+     * Indexes the commands with sequence numbers from {@code oldest} up to {@code commandCount} that are not yet
+     * indexed.
+     */
+    void indexUpTo(long oldest, long commandCount) {
+        for (long sequence = Math.max(indexedCount, oldest); sequence < commandCount; sequence++) {
+            for (long gram : grams(commandAt.apply(sequence))) {
+                postingsByGram.computeIfAbsent(gram, unused -> new Postings()).add(sequence);
+            }
+        }
+        indexedCount = Math.max(indexedCount, commandCount);
+    }
+
+    /**
+     * Removes {@code command}, which must be the oldest command in the history, from the index.
+     */
+    void removeOldest(long sequence, String command) {
+        if (sequence >= indexedCount) {
+            return;
+        }
+        for (long gram : grams(command)) {
+            Postings postings = postingsByGram.get(gram);
+            postings.removeFirst();
+            if (postings.size() == 0) {
+                postingsByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the sequence number of the newest command before {@code before} containing {@code query}, ignoring case,
+     * or -1 if there is none. Every command from {@code oldest} up to {@code before} must have been indexed.
+     */
+    long findBefore(String query, long before, long oldest) {
+        String lowerQuery = toLowerCase(query);
+        if (lowerQuery.length() < GRAM_LENGTH) {
+            for (long sequence = before - 1; sequence >= oldest; sequence--) {
+                if (containsLowerCase(commandAt.apply(sequence), lowerQuery)) {
+                    return sequence;
+                }
+            }
+            return -1;
+        }
+
+        Postings rarest = null;
+        for (long gram : grams(lowerQuery)) {
+            Postings postings = postingsByGram.get(gram);
+            if (postings == null) {
+                return -1;
+            }
+            if (rarest == null || postings.size() < rarest.size()) {
+                rarest = postings;
+            }
+        }
+        for (int i = rarest.lastPositionBefore(before); i >= rarest.start; i--) {
+            long sequence = rarest.sequences[i];
+            if (containsLowerCase(commandAt.apply(sequence), lowerQuery)) {
+                return sequence;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the distinct lowercased three-character substrings of {@code text}, each packed into a long.
+     */
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            long gram = 0;
+            for (int j = i; j < i + GRAM_LENGTH; j++) {
+                gram = (gram << Character.SIZE) | Character.toLowerCase(text.charAt(j));
+            }
+            grams.add(gram);
+        }
+        return grams;
+    }
+
+    private static String toLowerCase(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns true if {@code text} contains {@code lowerQuery} when each of its characters is lowercased.
+     */
+    private static boolean containsLowerCase(String text, String lowerQuery) {
+        for (int start = 0; start + lowerQuery.length() <= text.length(); start++) {
+            int i = 0;
+            while (i < lowerQuery.length() && Character.toLowerCase(text.charAt(start + i)) == lowerQuery.charAt(i)) {
+                i++;
+            }
+            if (i == lowerQuery.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,11 +2,15 @@ package seedu.address.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchIndexPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -87,11 +91,24 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person that is a key of {@code editedPersons} with its value, as a single change to the person
+     * list. Each key must exist in the address book.
+     * The person identities of the values must differ from each other and from the other persons in the address book.
+     */
+    void replacePersons(Map<Person, Person> editedPersons);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getSortedAndFilteredPersonList();
 
+    /**
+     * Returns the persons in the sorted and filtered person list having {@code tag}, found without scanning the list.
+     */
+    Set<Person> getFilteredPersonsWithTag(Tag tag);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * A {@link SearchIndexPredicate} is answered by looking its matches up in the address book's search index.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
@@ -99,7 +116,7 @@ public interface Model {
     /**
      * Applies alphabetical sorting to the current view of persons.
      * This does NOT change the underlying AddressBook or filteredPersons,
-     * only the SortedList comparator for the UI.
+     * only the order of the sorted and filtered person list shown in the UI.
      */
     void applyNameSort();
 
@@ -6,16 +6,20 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Comparator;
-import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PinStatus;
+import seedu.address.model.person.SearchIndexPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SortedFilteredList;
 import seedu.address.storage.CsvAddressBookStorage;
 
 /**
@@ -27,8 +31,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final CommandHistory commandHistory;
-    private final FilteredList<Person> filteredPersons;
-    private final SortedList<Person> sortedPersons;
+    private final SortedFilteredList<Person> sortedAndFilteredPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,9 +44,8 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.commandHistory = new CommandHistory(cmh);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        sortedPersons = new SortedList<>(filteredPersons);
-        sortedPersons.setComparator(withPinPriority(null));
+        sortedAndFilteredPersons = new SortedFilteredList<>(this.addressBook.getPersonList(),
+                PREDICATE_SHOW_ALL_PERSONS, withPinPriority(null));
     }
 
     public ModelManager() {
@@ -132,6 +134,13 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        addressBook.replacePersons(editedPersons);
+    }
+
     //=========== Command History ======================================================================
     @Override
     public void addCommandToHistory(String command) {
@@ -149,40 +158,48 @@ public class ModelManager implements Model {
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
      * {@code versionedAddressBook} which is filtered and optionally sorted.
+     * A change to one person only re-tests and re-positions that person in the list.
      */
     @Override
     public ObservableList<Person> getSortedAndFilteredPersonList() {
-        return sortedPersons;
+        return sortedAndFilteredPersons;
+    }
+
+    @Override
+    public Set<Person> getFilteredPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        // A person is in the list exactly when it is in the address book and passes the list's predicate
+        return addressBook.getPersonsWithTag(tag).stream()
+                .filter(sortedAndFilteredPersons.getPredicate())
+                .collect(Collectors.toSet());
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        Predicate<Person> effectivePredicate = predicate instanceof SearchIndexPredicate
+                ? addressBook.getSearchIndex().membershipPredicate((SearchIndexPredicate) predicate)
+                : predicate;
+        sortedAndFilteredPersons.setPredicate(effectivePredicate);
     }
 
     @Override
     public void applyNameSort() {
-        Comparator<Person> nameComparator = (p1, p2) ->
-                p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName);
-        sortedPersons.setComparator(withPinPriority(nameComparator));
+        Comparator<Person> nameComparator = (p1, p2) -> p1.getName().compareTo(p2.getName());
+        sortedAndFilteredPersons.setComparator(withPinPriority(nameComparator));
     }
 
     @Override
     public void applyRecentSort() {
-        Comparator<Person> recentComparator = (p1, p2) -> {
-            // Reverse the original list order: the later element in addressBook list appears first
-            List<Person> originalList = addressBook.getPersonList();
-            int index1 = originalList.indexOf(p1);
-            int index2 = originalList.indexOf(p2);
-            return Integer.compare(index2, index1); // flip the order
-        };
-        sortedPersons.setComparator(withPinPriority(recentComparator));
+        // Reverse the original list order: the later element in addressBook list appears first
+        Comparator<Person> recentComparator = (p1, p2) ->
+                Long.compare(addressBook.getSequenceNumber(p2), addressBook.getSequenceNumber(p1));
+        sortedAndFilteredPersons.setComparator(withPinPriority(recentComparator));
     }
 
     @Override
     public void resetSortOrder() {
-        sortedPersons.setComparator(withPinPriority(null));
+        sortedAndFilteredPersons.setComparator(withPinPriority(null));
     }
 
     @Override
@@ -199,7 +216,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedAndFilteredPersons.equals(otherModelManager.sortedAndFilteredPersons)
                 && commandHistory.equals(otherModelManager.commandHistory);
     }
 
@@ -217,22 +234,11 @@ public class ModelManager implements Model {
      */
     private Comparator<Person> withPinPriority(Comparator<Person> baseComparator) {
         return (p1, p2) -> {
-            // If pin status differs, pinned person comes first
-            if (p1.isPinned() != p2.isPinned()) {
-                return p1.isPinned() ? -1 : 1;
-            }
-
-            // Both pinned, sort by pinnedAt timestamp (most recent first)
-            if (p1.isPinned() && p2.isPinned()) {
-                if (p1.getPinnedAt().isPresent() && p2.getPinnedAt().isPresent()) {
-                    // Reverse order: more recent pinnedAt comes first
-                    return p2.getPinnedAt().get().compareTo(p1.getPinnedAt().get());
-                } else if (p1.getPinnedAt().isPresent()) {
-                    return -1;
-                } else if (p2.getPinnedAt().isPresent()) {
-                    return 1;
-                }
-                // Both missing pinnedAt, fall through to base comparator
+            // Pinned persons come first, the most recently pinned first
+            long pinSortKey1 = p1.getPinSortKey();
+            long pinSortKey2 = p2.getPinSortKey();
+            if (pinSortKey1 != pinSortKey2 || pinSortKey1 != PinStatus.UNPINNED_SORT_KEY) {
+                return Long.compare(pinSortKey1, pinSortKey2);
             }
 
             // Neither are pinned, use base comparator
@@ -240,10 +246,7 @@ public class ModelManager implements Model {
                 return baseComparator.compare(p1, p2);
             }
 
-            List<Person> originalList = addressBook.getPersonList();
-            int index1 = originalList.indexOf(p1);
-            int index2 = originalList.indexOf(p2);
-            return Integer.compare(index1, index2);
+            return Long.compare(addressBook.getSequenceNumber(p1), addressBook.getSequenceNumber(p2));
         };
     }
 }
@@ -17,8 +17,25 @@ public interface ReadOnlyCommandHistory {
      */
     String getPreviousCommandFromHistory(String curr);
 
+    /**
+     * Returns the closest previous (less recent) command in the history that contains {@code query}, ignoring case,
+     * and moves to it, or returns null if there is none.
+     * Searching again continues from that command, like a reverse search in a shell.
+     */
+    String searchPreviousCommand(String query, String curr);
+
     /**
      * Returns the whole history list.
      */
     List<String> getHistory();
+
+    /**
+     * Returns the number of commands ever added to the history, including those no longer kept.
+     */
+    long getCommandCount();
+
+    /**
+     * Returns the kept commands that were added after the first {@code commandCount} commands, oldest first.
+     */
+    List<String> getCommandsSince(long commandCount);
 }
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Person's email in the address book.
@@ -33,6 +34,7 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -49,10 +51,23 @@ public class Email {
      * @param email A valid nullable email address.
      */
     public Email(String email) {
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        this(email, false);
+    }
+
+    private Email(String email, boolean isValidated) {
+        if (!isValidated) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} of {@code email}, which must already be known to be valid, without validating it again.
+     */
+    public static Email ofValidated(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -62,7 +77,7 @@ public class Email {
             return true;
         }
 
-        boolean isEmailValid = test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        boolean isEmailValid = test.length() <= MAX_LENGTH && VALIDATION_PATTERN.matcher(test).matches();
         return isEmailValid;
     }
 
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Person's GitHub username in the address book.
@@ -15,6 +16,8 @@ public class Github {
                     + "contain letters (a–z, A–Z), numbers (0–9), and hyphens (-).\n"
                     + "It cannot begin or end with a hyphen, and consecutive hyphens are not allowed.";
     public static final String VALIDATION_REGEX = "^(?!-)(?!.*--)[a-zA-Z0-9-]{1,39}(?<!-)$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -30,11 +33,24 @@ public class Github {
      * @param username A valid GitHub username.
      */
     public Github(String username) {
-        String lowerCaseUsername = username == null ? null : username.toLowerCase();
-        checkArgument(isValidGithub(lowerCaseUsername), MESSAGE_CONSTRAINTS);
+        this(username == null ? null : username.toLowerCase(), false);
+    }
+
+    private Github(String lowerCaseUsername, boolean isValidated) {
+        if (!isValidated) {
+            checkArgument(isValidGithub(lowerCaseUsername), MESSAGE_CONSTRAINTS);
+        }
         value = lowerCaseUsername;
     }
 
+    /**
+     * Returns a {@code Github} of {@code username}, which must already be known to be a valid lowercase username,
+     * without validating it again.
+     */
+    public static Github ofValidated(String username) {
+        return new Github(username, true);
+    }
+
     /**
      * Returns true if a given string is a valid GitHub username.
      */
@@ -44,7 +60,7 @@ public class Github {
             return true;
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -3,11 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
  */
-public class Name {
+public class Name implements Comparable<Name> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Name must start with a letter or number and contain only letters, numbers, spaces, or forward slashes.";
@@ -18,26 +20,71 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{L}\\p{N}][\\p{L}\\p{N}/ ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
+    private final String normalizedName;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isValidated) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
+        normalizedName = normalize(name);
+    }
+
+    /**
+     * Returns a {@code Name} of {@code name}, which must already be known to be valid, without validating it again.
+     */
+    public static Name ofValidated(String name) {
+        return new Name(name, true);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the case-folded form of {@code name}.
+     * Two names are equal under {@link String#equalsIgnoreCase(String)} iff their normalized forms are equal.
+     */
+    private static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        name.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
     }
 
+    /**
+     * Returns the case-insensitive identity key of this name, suitable for use as a hash key.
+     */
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    /**
+     * Compares names alphabetically, ignoring case, in the same order as {@link String#compareToIgnoreCase(String)}.
+     * The comparison reads the precomputed normalized forms, so it does not allocate.
+     */
+    @Override
+    public int compareTo(Name other) {
+        return normalizedName.compareTo(other.normalizedName);
+    }
 
     @Override
     public String toString() {
@@ -56,12 +103,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equalsIgnoreCase(otherName.fullName);
+        return normalizedName.equals(otherName.normalizedName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return normalizedName.hashCode();
     }
 
 }
@@ -3,7 +3,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -11,7 +11,7 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements SearchIndexPredicate {
     private final List<String> keywords;
 
     /**
@@ -29,6 +29,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 keyword -> StringUtil.hasWordStartingWithIgnoreCase(person.getName().fullName, keyword));
     }
 
+    @Override
+    public Set<Person> findMatches(PersonSearchIndex index) {
+        return index.findByNameKeywords(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
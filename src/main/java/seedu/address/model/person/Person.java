@@ -5,7 +5,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -16,9 +15,15 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Parts that many persons have in common, such as absent contact details, tag sets and the unpinned status, are
+ * shared between them, since every person in the address book is held in memory.
  */
 public class Person {
 
+    private static final Email NO_EMAIL = new Email();
+    private static final Telegram NO_TELEGRAM = new Telegram();
+    private static final Github NO_GITHUB = new Github();
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -28,7 +33,7 @@ public class Person {
     private final PreferredCommunicationMode preferredMode;
 
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     // Status fields
     private final PinStatus pinStatus;
@@ -41,12 +46,12 @@ public class Person {
         requireAllNonNull(name, phone, email, telegram, github, preferredMode, tags);
         this.name = name;
         this.phone = phone;
-        this.email = email;
-        this.telegram = telegram;
-        this.github = github;
+        this.email = email.isEmpty() ? NO_EMAIL : email;
+        this.telegram = telegram.isEmpty() ? NO_TELEGRAM : telegram;
+        this.github = github.isEmpty() ? NO_GITHUB : github;
         this.preferredMode = preferredMode;
-        this.tags.addAll(tags);
-        this.pinStatus = new PinStatus();
+        this.tags = TagSet.of(tags);
+        this.pinStatus = PinStatus.UNPINNED;
     }
 
     /**
@@ -59,12 +64,12 @@ public class Person {
         requireAllNonNull(name, phone, email, telegram, github, tags);
         this.name = name;
         this.phone = phone;
-        this.email = email;
-        this.telegram = telegram;
-        this.github = github;
+        this.email = email.isEmpty() ? NO_EMAIL : email;
+        this.telegram = telegram.isEmpty() ? NO_TELEGRAM : telegram;
+        this.github = github.isEmpty() ? NO_GITHUB : github;
         this.preferredMode = preferredMode;
-        this.tags.addAll(tags);
-        this.pinStatus = new PinStatus(pinnedAt);
+        this.tags = TagSet.of(tags);
+        this.pinStatus = PinStatus.of(pinnedAt);
     }
 
     public Name getName() {
@@ -180,6 +185,15 @@ public class Person {
         return pinStatus.getPinnedAt();
     }
 
+    /**
+     * Returns the pin state of this person packed into a primitive sort key.
+     *
+     * @see PinStatus#getSortKey()
+     */
+    public long getPinSortKey() {
+        return pinStatus.getSortKey();
+    }
+
     /**
      * Returns true if both persons have the same identity, data and status fields.
      * This defines a stronger notion of equality between two persons.
@@ -0,0 +1,174 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the lowercased words of each person's name and tags to the persons containing them.
+ * Words are kept in sorted term dictionaries, so all persons having a word that starts with a given keyword are found
+ * by walking the range of terms sharing that prefix instead of scanning and re-splitting every name.
+ * Each whole tag is also indexed, so the persons having a tag are found without scanning.
+ * Persons are held by identity rather than by {@link Person#equals}, which ignores the case of names, so that an
+ * edit changing only the case of a name still replaces the old person in the index.
+ */
+public class PersonSearchIndex {
+
+    private final NavigableMap<String, Set<Person>> personsByNameWord = new TreeMap<>();
+    private final NavigableMap<String, Set<Person>> personsByTagWord = new TreeMap<>();
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+
+    /** Incremented on every change, so that cached lookups can tell when persons may have been added since. */
+    private long version = 0;
+
+    /**
+     * Adds the words of {@code person}'s name and tags to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        addWords(personsByNameWord, person.getName().fullName, person);
+        for (Tag tag : person.getTags()) {
+            addWords(personsByTagWord, tag.getTagName(), person);
+            personsByTag.computeIfAbsent(tag, unused -> newPersonSet()).add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes the words of {@code person}'s name and tags from the index.
+     *
+     * @return true if {@code person} itself, and not just an equal person, was in the index.
+     */
+    public boolean remove(Person person) {
+        requireNonNull(person);
+        boolean wasIndexed = removeWords(personsByNameWord, person.getName().fullName, person);
+        for (Tag tag : person.getTags()) {
+            removeWords(personsByTagWord, tag.getTagName(), person);
+            removePerson(personsByTag, tag, person);
+        }
+        version++;
+        return wasIndexed;
+    }
+
+    /**
+     * Replaces the contents of the index with the words of {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        personsByNameWord.clear();
+        personsByTagWord.clear();
+        personsByTag.clear();
+        persons.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Returns the persons with a word in their name starting with any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByNameKeywords(List<String> keywords) {
+        return findByKeywords(personsByNameWord, keywords);
+    }
+
+    /**
+     * Returns the persons with a word in any of their tags starting with any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByTagKeywords(List<String> keywords) {
+        return findByKeywords(personsByTagWord, keywords);
+    }
+
+    /**
+     * Returns the persons having {@code tag}.
+     */
+    public Set<Person> findByTag(Tag tag) {
+        requireNonNull(tag);
+        return Collections.unmodifiableSet(personsByTag.getOrDefault(tag, Collections.emptySet()));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that tests membership in its matches in this index.
+     * The matches are looked up once, when the predicate is first tested. Persons are immutable, so a person among
+     * them still matches after the index changes, and any other person is tested with {@code predicate} itself
+     * once the index has changed, since it may have been added since.
+     */
+    public Predicate<Person> membershipPredicate(SearchIndexPredicate predicate) {
+        requireNonNull(predicate);
+        return new Predicate<>() {
+            private long lookupVersion = -1;
+            private Set<Person> matches;
+
+            @Override
+            public boolean test(Person person) {
+                if (matches == null) {
+                    matches = predicate.findMatches(PersonSearchIndex.this);
+                    lookupVersion = version;
+                }
+                if (matches.contains(person)) {
+                    return true;
+                }
+                return lookupVersion != version && predicate.test(person);
+            }
+        };
+    }
+
+    private static Set<Person> findByKeywords(NavigableMap<String, Set<Person>> index, List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = newPersonSet();
+        for (String keyword : keywords) {
+            String prefix = keyword.trim().toLowerCase(Locale.ROOT);
+            for (Map.Entry<String, Set<Person>> entry : index.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static void addWords(Map<String, Set<Person>> index, String text, Person person) {
+        for (String word : splitWords(text)) {
+            index.computeIfAbsent(word, unused -> newPersonSet()).add(person);
+        }
+    }
+
+    private static boolean removeWords(Map<String, Set<Person>> index, String text, Person person) {
+        boolean isRemoved = false;
+        for (String word : splitWords(text)) {
+            isRemoved |= removePerson(index, word, person);
+        }
+        return isRemoved;
+    }
+
+    private static <K> boolean removePerson(Map<K, Set<Person>> index, K key, Person person) {
+        Set<Person> persons = index.get(key);
+        if (persons == null || !persons.remove(person)) {
+            return false;
+        }
+        if (persons.isEmpty()) {
+            index.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Splits {@code text} into lowercased words the same way {@code StringUtil#hasWordStartingWithIgnoreCase} does.
+     */
+    private static String[] splitWords(String text) {
+        return text.trim().toLowerCase(Locale.ROOT).split("\\s+");
+    }
+}
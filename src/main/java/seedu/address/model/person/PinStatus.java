@@ -14,7 +14,14 @@ public class PinStatus {
                     + "Format: <yyyy-MM-dd>T<hr:mm:ss>Z \n"
                     + "Example: 2025-10-22T07:00:17.036469800Z";
 
+    /** Sort key of an unpinned status, which orders after every pinned status. */
+    public static final long UNPINNED_SORT_KEY = Long.MAX_VALUE;
+
+    /** The unpinned status, which every unpinned person shares. */
+    public static final PinStatus UNPINNED = new PinStatus();
+
     private final Optional<Instant> pinnedAt;
+    private final long sortKey;
 
     /**
      * Constructs a new PinStatus representing an unpinned state.
@@ -22,6 +29,7 @@ public class PinStatus {
      */
     public PinStatus() {
         this.pinnedAt = Optional.empty();
+        this.sortKey = UNPINNED_SORT_KEY;
     }
 
     /**
@@ -33,6 +41,29 @@ public class PinStatus {
      */
     public PinStatus(Instant pinnedAt) {
         this.pinnedAt = Optional.ofNullable(pinnedAt);
+        this.sortKey = pinnedAt == null ? UNPINNED_SORT_KEY : -toEpochNanos(pinnedAt);
+    }
+
+    /**
+     * Returns the pin status of a person pinned at {@code pinnedAt}, or {@link #UNPINNED} if it is null.
+     */
+    public static PinStatus of(Instant pinnedAt) {
+        return pinnedAt == null ? UNPINNED : new PinStatus(pinnedAt);
+    }
+
+    /**
+     * Returns the nanoseconds from the epoch to {@code instant}, clamped so that its negation is a valid
+     * pinned sort key, i.e. never {@link #UNPINNED_SORT_KEY} and never overflows.
+     */
+    private static long toEpochNanos(Instant instant) {
+        long bound = Long.MAX_VALUE - 1;
+        try {
+            long nanos = Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L),
+                    instant.getNano());
+            return Math.max(-bound, Math.min(bound, nanos));
+        } catch (ArithmeticException e) {
+            return instant.getEpochSecond() < 0 ? -bound : bound;
+        }
     }
 
     /**
@@ -49,6 +80,15 @@ public class PinStatus {
         return pinnedAt;
     }
 
+    /**
+     * Returns the pin state packed into a primitive key for sorting.
+     * Smaller keys come first: pinned statuses order before unpinned ones, and more recent pins before older ones.
+     * Every unpinned status has the key {@link #UNPINNED_SORT_KEY}.
+     */
+    public long getSortKey() {
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return pinnedAt.toString();
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on persons whose matches can also be looked up in a {@link PersonSearchIndex},
+ * so that filtering by it does not need to test every person.
+ */
+public interface SearchIndexPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that satisfy this predicate.
+     */
+    Set<Person> findMatches(PersonSearchIndex index);
+}
@@ -3,7 +3,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -12,7 +12,7 @@ import seedu.address.model.tag.Tag;
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements SearchIndexPredicate {
     private final List<String> keywords;
 
     /**
@@ -34,6 +34,11 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
                 );
     }
 
+    @Override
+    public Set<Person> findMatches(PersonSearchIndex index) {
+        return index.findByTagKeywords(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable set of the canonical tags of a person, held in an array.
+ * It takes a fraction of the memory of a {@code HashSet}, which needs a table and an entry object per tag, and every
+ * person without tags shares the same empty set. The tags are iterated in the same order as in a {@code HashSet} of
+ * them, and as persons have few tags, finding one by scanning the array is as fast as hashing would be.
+ */
+final class TagSet extends AbstractSet<Tag> {
+
+    static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a set of the canonical tags equal to those in {@code tags}, or {@code tags} itself if it is a
+     * {@code TagSet}.
+     */
+    static TagSet of(Collection<Tag> tags) {
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Set<Tag> distinctTags = new HashSet<>();
+        tags.forEach(tag -> distinctTags.add(tag.intern()));
+        return new TagSet(distinctTags.toArray(new Tag[0]));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (Tag tag : tags) {
+            if (tag.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (next == tags.length) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+}
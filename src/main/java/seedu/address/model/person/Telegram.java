@@ -4,6 +4,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's telegram username in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTelegram(String)}
@@ -29,11 +31,24 @@ public class Telegram {
      * @param username A valid telegram username.
      */
     public Telegram(String username) {
-        String lowerCaseUsername = username == null ? null : username.toLowerCase();
-        checkArgument(isValidTelegram(lowerCaseUsername), MESSAGE_CONSTRAINTS);
+        this(username == null ? null : username.toLowerCase(), false);
+    }
+
+    private Telegram(String lowerCaseUsername, boolean isValidated) {
+        if (!isValidated) {
+            checkArgument(isValidTelegram(lowerCaseUsername), MESSAGE_CONSTRAINTS);
+        }
         value = lowerCaseUsername;
     }
 
+    /**
+     * Returns a {@code Telegram} of {@code username}, which must already be known to be a valid lowercase username,
+     * without validating it again.
+     */
+    public static Telegram ofValidated(String username) {
+        return new Telegram(username, true);
+    }
+
     /**
      * Returns true if a given string is a valid Telegram username.
      */
@@ -43,7 +58,7 @@ public class Telegram {
             return true;
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.hasLengthAndCharacters(test, 5, 32, c -> StringUtil.isAsciiAlphanumeric(c) || c == '_');
     }
 
     /**
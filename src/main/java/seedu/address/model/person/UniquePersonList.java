@@ -3,10 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -20,20 +28,33 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity lookups are backed by a hash index on {@link Name#getNormalizedName()}, so {@code contains},
+ * {@code setPerson} and {@code remove} do not scan the list. Each person also carries an insertion sequence number,
+ * which is kept across {@code setPerson} and increases along the list, so that positions can be found by binary search
+ * and insertion order can be compared in constant time.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Persons in {@code internalList}, keyed by their normalized name. */
+    private final Map<String, Person> personsByName = new HashMap<>();
+
+    /** Insertion sequence numbers of persons in {@code internalList}, strictly increasing along the list. */
+    private final Map<Person, Long> sequenceNumbers = new IdentityHashMap<>();
+
+    private long nextSequenceNumber = 0;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(keyOf(toCheck));
     }
 
     /**
@@ -45,6 +66,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(keyOf(toAdd), toAdd);
+        sequenceNumbers.put(toAdd, nextSequenceNumber++);
         internalList.add(toAdd);
     }
 
@@ -56,8 +79,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person existing = findEqualPerson(target);
+        if (existing == null) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +88,61 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = indexOf(existing);
+        personsByName.remove(keyOf(existing));
+        personsByName.put(keyOf(editedPerson), editedPerson);
+        sequenceNumbers.put(editedPerson, sequenceNumbers.get(existing));
         internalList.set(index, editedPerson);
+        // Listeners may still look up the replaced person while the change is being fired
+        if (existing != editedPerson) {
+            sequenceNumbers.remove(existing);
+        }
+    }
+
+    /**
+     * Replaces each person in the list that is a key of {@code editedPersons} with its value, as a single change to
+     * the list. Each key must exist in the list.
+     * The person identities of the values must differ from each other and from the other existing persons in the list.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        Map<Person, Person> existingPersons = new IdentityHashMap<>();
+        Map<String, Person> editedPersonsByName = new HashMap<>();
+        for (Map.Entry<Person, Person> entry : editedPersons.entrySet()) {
+            requireAllNonNull(entry.getKey(), entry.getValue());
+            Person existing = findEqualPerson(entry.getKey());
+            if (existing == null) {
+                throw new PersonNotFoundException();
+            }
+            existingPersons.put(existing, entry.getValue());
+            if (editedPersonsByName.put(keyOf(entry.getValue()), entry.getValue()) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        for (String name : editedPersonsByName.keySet()) {
+            Person holder = personsByName.get(name);
+            if (holder != null && !existingPersons.containsKey(holder)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        SortedMap<Integer, Person> editedPersonsByIndex = new TreeMap<>();
+        existingPersons.forEach((existing, editedPerson) -> {
+            editedPersonsByIndex.put(indexOf(existing), editedPerson);
+            personsByName.remove(keyOf(existing));
+        });
+        existingPersons.forEach((existing, editedPerson) -> {
+            personsByName.put(keyOf(editedPerson), editedPerson);
+            sequenceNumbers.put(editedPerson, sequenceNumbers.get(existing));
+        });
+        internalList.setPersonsAt(editedPersonsByIndex);
+        // Listeners may still look up the replaced persons while the change is being fired
+        existingPersons.forEach((existing, editedPerson) -> {
+            if (existing != editedPerson) {
+                sequenceNumbers.remove(existing);
+            }
+        });
     }
 
     /**
@@ -74,13 +151,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = findEqualPerson(toRemove);
+        if (existing == null) {
             throw new PersonNotFoundException();
         }
+
+        int index = indexOf(existing);
+        personsByName.remove(keyOf(existing));
+        internalList.remove(index);
+        // Listeners may still look up the removed person while the change is being fired
+        sequenceNumbers.remove(existing);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,9 +179,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndex(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the insertion sequence number of {@code person}, or -1 if {@code person} is not an element of the list.
+     * Comparing sequence numbers orders persons as they appear in the list, i.e. in the order they were added.
+     * A person replaced through {@link #setPerson(Person, Person)} passes its sequence number on to the edited person.
+     */
+    public long getSequenceNumber(Person person) {
+        requireNonNull(person);
+        return sequenceNumbers.getOrDefault(person, -1L);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -106,7 +202,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -134,17 +230,118 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private static String keyOf(Person person) {
+        return person.getName().getNormalizedName();
+    }
+
+    /**
+     * Returns the person in the list that is equal to {@code person} by {@link Person#equals(Object)},
+     * or null if there is no such person.
+     * As names are unique in the list, only the person with the same name can be equal.
+     */
+    private Person findEqualPerson(Person person) {
+        Person candidate = personsByName.get(keyOf(person));
+        return person.equals(candidate) ? candidate : null;
+    }
+
+    /**
+     * Returns the position of {@code person} in {@code internalList}, found by binary search on sequence numbers.
+     * {@code person} must be an element of the list.
+     */
+    private int indexOf(Person person) {
+        long sequenceNumber = sequenceNumbers.get(person);
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midSequenceNumber = sequenceNumbers.get(internalList.get(mid));
+            if (midSequenceNumber < sequenceNumber) {
+                low = mid + 1;
+            } else if (midSequenceNumber > sequenceNumber) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        throw new AssertionError("Sequence numbers out of sync with the list");
+    }
+
+    private void rebuildIndex(List<Person> persons) {
+        personsByName.clear();
+        sequenceNumbers.clear();
+        for (Person person : persons) {
+            personsByName.put(keyOf(person), person);
+            sequenceNumbers.put(person, nextSequenceNumber++);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        return findDuplicates(persons).isEmpty();
+    }
+
+    /**
+     * Finds every person in {@code persons} with the same identity as an earlier person in a single pass.
+     *
+     * @return a map from the zero-based position of each duplicate to the position of the first person with the same
+     *     identity, in order of the duplicates' positions. The map is empty if all persons are unique.
+     * @see Person#isSamePerson(Person)
+     */
+    public static Map<Integer, Integer> findDuplicates(List<Person> persons) {
+        Map<String, Integer> firstPositions = new HashMap<>();
+        Map<Integer, Integer> duplicates = new LinkedHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Integer firstPosition = firstPositions.putIfAbsent(keyOf(persons.get(i)), i);
+            if (firstPosition != null) {
+                duplicates.put(i, firstPosition);
             }
         }
-        return true;
+        return duplicates;
+    }
+
+    /**
+     * An observable list of persons that can also replace the persons at many positions in a single change.
+     */
+    private static class PersonObservableList extends ModifiableObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+
+        /**
+         * Replaces the person at each position in {@code personsByIndex} with the person mapped to it.
+         */
+        void setPersonsAt(SortedMap<Integer, Person> personsByIndex) {
+            beginChange();
+            try {
+                personsByIndex.forEach(this::set);
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person person) {
+            persons.add(index, person);
+        }
+
+        @Override
+        protected Person doSet(int index, Person person) {
+            return persons.set(index, person);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
     }
 }
@@ -3,9 +3,13 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Tags are interned: {@link #of(String)} returns the same instance for the same name, so a tag shared by many persons
+ * is only stored once.
  */
 public class Tag {
 
@@ -26,11 +30,28 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return TagRegistry.intern(tagName);
+    }
+
+    /**
+     * Returns the canonical {@code Tag} equal to this tag.
+     */
+    public Tag intern() {
+        return TagRegistry.intern(this);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.hasLengthAndCharacters(test, 1, 128, StringUtil::isAsciiAlphanumeric);
     }
 
     @Override
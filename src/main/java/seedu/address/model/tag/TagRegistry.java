@@ -0,0 +1,84 @@
+package seedu.address.model.tag;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The canonical {@code Tag} of each tag name in use, shared by every person having that tag.
+ * A tag is dropped from the registry once nothing else refers to it, and is validated only when it is first added.
+ * Safe for use by multiple threads, which look up tags without blocking one another, as when persons are loaded in
+ * parallel.
+ */
+final class TagRegistry {
+
+    private static final Map<String, TagReference> tagsByName = new ConcurrentHashMap<>();
+    /** The references to tags that are no longer in use, whose entries are yet to be removed. */
+    private static final ReferenceQueue<Tag> clearedTags = new ReferenceQueue<>();
+
+    private TagRegistry() {}
+
+    /**
+     * A weak reference to a tag that remembers the tag's name, to remove its entry once the tag is no longer in use.
+     */
+    private static class TagReference extends WeakReference<Tag> {
+        private final String tagName;
+
+        private TagReference(Tag tag) {
+            super(tag, clearedTags);
+            this.tagName = tag.tagName;
+        }
+    }
+
+    /**
+     * Returns the canonical tag named {@code tagName}, creating it if there is none.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    static Tag intern(String tagName) {
+        Tag tag = get(tagName);
+        return tag != null ? tag : register(new Tag(tagName));
+    }
+
+    /**
+     * Returns the canonical tag equal to {@code tag}, registering {@code tag} as canonical if there is none.
+     */
+    static Tag intern(Tag tag) {
+        Tag canonical = get(tag.tagName);
+        return canonical != null ? canonical : register(tag);
+    }
+
+    private static Tag get(String tagName) {
+        TagReference reference = tagsByName.get(tagName);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Makes {@code tag} canonical unless another thread has just registered a tag of the same name, and returns the
+     * canonical tag.
+     */
+    private static Tag register(Tag tag) {
+        removeClearedTags();
+        TagReference reference = new TagReference(tag);
+        while (true) {
+            TagReference existing = tagsByName.putIfAbsent(tag.tagName, reference);
+            if (existing == null) {
+                return tag;
+            }
+            Tag canonical = existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            // The entry's tag is no longer in use, so the new tag takes over its name rather than leaving it unkept
+            tagsByName.replace(tag.tagName, existing, reference);
+        }
+    }
+
+    private static void removeClearedTags() {
+        TagReference cleared;
+        while ((cleared = (TagReference) clearedTags.poll()) != null) {
+            tagsByName.remove(cleared.tagName, cleared);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An unmodifiable view of the elements of a source {@code ObservableList} that pass a predicate, in the order given
+ * by a comparator. It does the work of a {@code FilteredList} wrapped in a {@code SortedList}, but keeps its elements
+ * in a balanced search tree instead of arrays of indices into the source.
+ * Adding, removing or replacing one element of the source only tests that element against the predicate and takes
+ * O(log n) time, where the JavaFX lists shift their arrays in O(n). Changing the predicate or the comparator, or many
+ * elements of the source at once, rebuilds the view.
+ * The source must not hold the same element twice.
+ */
+public class SortedFilteredList<E> extends TransformationList<E, E> {
+
+    /** Changes to at least this many elements of the source, and to more than the square root of its size, rebuild. */
+    private static final int MIN_REBUILD_CHANGE_COUNT = 64;
+
+    private final Random random = new Random();
+    /** The node of each element in the view, to find it by identity as the comparator may no longer apply to it. */
+    private final Map<E, Node<E>> nodes = new IdentityHashMap<>();
+    private Node<E> root;
+    private Predicate<? super E> predicate;
+    private Comparator<? super E> comparator;
+
+    /** The two parts of the tree produced by the last call to {@link #split(Node, int)}. */
+    private Node<E> splitLeft;
+    private Node<E> splitRight;
+
+    /**
+     * A node of a treap: a binary search tree on the order of the elements, which is also a heap on random priorities
+     * so that it stays balanced in expectation.
+     */
+    private static class Node<E> {
+        private final E element;
+        private final int priority;
+        private Node<E> left;
+        private Node<E> right;
+        private Node<E> parent;
+        /** The number of nodes in the subtree rooted at this node. */
+        private int size = 1;
+
+        private Node(E element, int priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * Creates a view of the elements of {@code source} that pass {@code predicate}, ordered by {@code comparator}.
+     * Elements that compare as equal are kept in the order they were added to the view.
+     */
+    public SortedFilteredList(ObservableList<? extends E> source, Predicate<? super E> predicate,
+            Comparator<? super E> comparator) {
+        super(source);
+        this.predicate = requireNonNull(predicate);
+        this.comparator = requireNonNull(comparator);
+        build();
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the elements of the source that pass {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        if (predicate == this.predicate) {
+            return;
+        }
+        this.predicate = predicate;
+        rebuild();
+    }
+
+    public Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Orders the elements in the view by {@code comparator}.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        if (comparator == this.comparator) {
+            return;
+        }
+        this.comparator = comparator;
+        rebuild();
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * {@inheritDoc}
+     * This looks the element up in the source, which takes O(n) time.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        return getSource().indexOf(get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        Node<E> node = nodes.get(getSource().get(index));
+        return node == null ? -1 : indexOf(node);
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        List<E> removed = new ArrayList<>();
+        List<E> added = new ArrayList<>();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                // The order of the source does not affect the view
+                continue;
+            }
+            if (c.wasUpdated()) {
+                List<? extends E> updated = c.getList().subList(c.getFrom(), c.getTo());
+                removed.addAll(updated);
+                added.addAll(updated);
+            } else {
+                removed.addAll(c.getRemoved());
+                added.addAll(c.getAddedSubList());
+            }
+        }
+
+        int changeCount = removed.size() + added.size();
+        if (changeCount >= MIN_REBUILD_CHANGE_COUNT && changeCount > Math.sqrt(getSource().size())) {
+            rebuild();
+            return;
+        }
+
+        beginChange();
+        // Remove first, so that the comparator is only applied to elements that are still in the source
+        for (E element : removed) {
+            removeFromView(element);
+        }
+        for (E element : added) {
+            addToView(element);
+        }
+        endChange();
+    }
+
+    private void removeFromView(E element) {
+        Node<E> node = nodes.remove(element);
+        if (node == null) {
+            return;
+        }
+        int index = indexOf(node);
+        split(root, index);
+        Node<E> before = splitLeft;
+        split(splitRight, 1);
+        root = merge(before, splitRight);
+        detachRoot();
+        nextRemove(index, element);
+    }
+
+    private void addToView(E element) {
+        if (!predicate.test(element)) {
+            return;
+        }
+        Node<E> node = new Node<>(element, random.nextInt());
+        nodes.put(element, node);
+        int index = countNotAfter(element);
+        split(root, index);
+        Node<E> after = splitRight;
+        root = merge(merge(splitLeft, node), after);
+        detachRoot();
+        nextAdd(index, index + 1);
+    }
+
+    /**
+     * Rebuilds the view from the source and reports it as replacing everything in the view.
+     */
+    private void rebuild() {
+        List<E> oldElements = inOrder();
+        build();
+        if (oldElements.isEmpty() && root == null) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, size(), oldElements);
+        endChange();
+    }
+
+    /**
+     * Builds the tree from the elements of the source that pass the predicate in O(n log n) time, or in O(n) time if
+     * they are already in order.
+     */
+    private void build() {
+        nodes.clear();
+        List<E> elements = new ArrayList<>();
+        for (E element : getSource()) {
+            if (predicate.test(element)) {
+                elements.add(element);
+            }
+        }
+        elements.sort(comparator);
+
+        // Every new node is the last in order, so it goes on the right spine of the tree, above any nodes on the spine
+        // with a lower priority, which become its left subtree
+        Deque<Node<E>> rightSpine = new ArrayDeque<>();
+        for (E element : elements) {
+            Node<E> node = new Node<>(element, random.nextInt());
+            nodes.put(element, node);
+            Node<E> lowerPriority = null;
+            while (!rightSpine.isEmpty() && rightSpine.peek().priority < node.priority) {
+                lowerPriority = rightSpine.pop();
+            }
+            node.left = lowerPriority;
+            if (!rightSpine.isEmpty()) {
+                rightSpine.peek().right = node;
+            }
+            rightSpine.push(node);
+        }
+        root = rightSpine.peekLast();
+        if (root != null) {
+            updateSubtree(root);
+            detachRoot();
+        }
+    }
+
+    private void updateSubtree(Node<E> node) {
+        if (node.left != null) {
+            updateSubtree(node.left);
+        }
+        if (node.right != null) {
+            updateSubtree(node.right);
+        }
+        update(node);
+    }
+
+    /**
+     * Returns the elements in the view, in order.
+     */
+    private List<E> inOrder() {
+        List<E> elements = new ArrayList<>(size());
+        Deque<Node<E>> ancestors = new ArrayDeque<>();
+        Node<E> node = root;
+        while (node != null || !ancestors.isEmpty()) {
+            while (node != null) {
+                ancestors.push(node);
+                node = node.left;
+            }
+            node = ancestors.pop();
+            elements.add(node.element);
+            node = node.right;
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the number of elements in the view that do not come after {@code element}.
+     */
+    private int countNotAfter(E element) {
+        int count = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (comparator.compare(element, node.element) < 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index in the view of the element at {@code node}, found by walking up to the root.
+     */
+    private int indexOf(Node<E> node) {
+        int index = size(node.left);
+        for (Node<E> child = node; child.parent != null; child = child.parent) {
+            if (child == child.parent.right) {
+                index += size(child.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Splits the tree rooted at {@code node} into the trees {@code splitLeft}, holding its first {@code count}
+     * elements, and {@code splitRight}, holding the rest.
+     */
+    private void split(Node<E> node, int count) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+            return;
+        }
+        int leftSize = size(node.left);
+        if (leftSize < count) {
+            split(node.right, count - leftSize - 1);
+            node.right = splitLeft;
+            splitLeft = update(node);
+        } else {
+            split(node.left, count);
+            node.left = splitRight;
+            splitRight = update(node);
+        }
+    }
+
+    /**
+     * Joins the trees rooted at {@code first} and {@code second}, all of whose elements come after those of
+     * {@code first}, and returns the root of the joined tree.
+     */
+    private Node<E> merge(Node<E> first, Node<E> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            return update(first);
+        }
+        second.left = merge(first, second.left);
+        return update(second);
+    }
+
+    /**
+     * Recomputes the size of {@code node} and points its children back at it, after its children have changed.
+     */
+    private static <E> Node<E> update(Node<E> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+        return node;
+    }
+
+    private void detachRoot() {
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons in a {@link ReadOnlyAddressBook}, which can be saved from another thread
+ * while the original keeps changing.
+ * Persons are immutable, so only the list itself is copied.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of the persons currently in {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getPersonList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+}
@@ -42,6 +42,15 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns a copy of {@code addressBook} that, when saved later, possibly from another thread, has the same effect
+     * as saving {@code addressBook} now.
+     * Must be called on the thread that modifies {@code addressBook}.
+     */
+    default ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        return new AddressBookSnapshot(addressBook);
+    }
+
     /**
      * Exports the address book to a CSV file at the specified path.
      */
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BinarySerializableAddressBook.SourceStamp;
+
+/**
+ * An {@link AddressBookStorage} that keeps a binary snapshot of the address book next to the data file of another
+ * {@code AddressBookStorage}, and reads the snapshot instead of the data file whenever it is up to date, which is much
+ * faster for large address books.
+ * The data file stays the copy that users read, edit and share; the snapshot is only a cache of it. Every save writes
+ * both, and the snapshot is up to date only while the data file has the size and checksum it had when the snapshot
+ * was written. Checksumming the data file costs far less than parsing it. A data file that was edited by hand, or a
+ * snapshot that is missing or corrupted, is read from the data file instead, and a new snapshot is written from it.
+ * A missing data file is never restored from the snapshot, so deleting the data file still starts afresh.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final Path snapshotFilePath;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that keeps its data file in {@code addressBookStorage}.
+     */
+    public BinaryAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        this.snapshotFilePath = filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    public Path getSnapshotFilePath() {
+        return snapshotFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot if it is up to date with the data file at {@code filePath}, and otherwise reads the data
+     * file and writes a new snapshot of it.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return addressBookStorage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = readSnapshot();
+        if (snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (addressBook.isPresent() && FileUtil.isFileExists(filePath)) {
+            try {
+                writeSnapshot(addressBook.get());
+            } catch (IOException e) {
+                logger.warning("Could not write snapshot " + snapshotFilePath + ": " + e);
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the address book in the snapshot, or {@code Optional.empty()} if there is no snapshot that is intact
+     * and up to date with an existing data file.
+     */
+    private Optional<ReadOnlyAddressBook> readSnapshot() {
+        Path dataFilePath = getAddressBookFilePath();
+        if (!FileUtil.isFileExists(snapshotFilePath) || !FileUtil.isFileExists(dataFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = readFully(snapshotFilePath);
+            if (!BinarySerializableAddressBook.readSourceStamp(buffer).equals(SourceStamp.of(dataFilePath))) {
+                logger.info("Ignoring snapshot " + snapshotFilePath + " as " + dataFilePath + " has changed since");
+                return Optional.empty();
+            }
+            return Optional.of(BinarySerializableAddressBook.readFrom(buffer));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Ignoring unreadable snapshot " + snapshotFilePath + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the content of {@code file}, read through a {@code FileChannel}.
+     * The file is not memory-mapped, as a mapped file cannot be replaced on some platforms until it is garbage
+     * collected, which would make the next save fail.
+     */
+    private static ByteBuffer readFully(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + file);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("File truncated while reading: " + file);
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} to the data file at {@code filePath}, and writes a snapshot of it too if that is the
+     * data file of this storage.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return;
+        }
+
+        try {
+            writeSnapshot(addressBook);
+        } catch (IOException e) {
+            // The data file is saved, so the app can carry on, but the old snapshot must not be read in its place
+            logger.warning("Could not write snapshot " + snapshotFilePath + ": " + e);
+            Files.deleteIfExists(snapshotFilePath);
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook}, which must be what the data file holds.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        SourceStamp sourceStamp = SourceStamp.of(getAddressBookFilePath());
+        FileUtil.writeToFileAtomically(snapshotFilePath, out ->
+                BinarySerializableAddressBook.writeTo(out, addressBook, sourceStamp));
+        // The snapshot can always be written again from the data file, so its backup is of no use
+        Files.deleteIfExists(FileUtil.getBackupPath(snapshotFilePath));
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.snapshotAddressBook(addressBook);
+    }
+
+    @Override
+    public void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        addressBookStorage.exportAddressBookToCsv(addressBook, filePath);
+    }
+}
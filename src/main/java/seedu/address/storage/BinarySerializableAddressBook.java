@@ -0,0 +1,284 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Github;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PreferredCommunicationMode;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes an address book in a compact binary format, which loads much faster than JSON since there is
+ * nothing to parse, and a checksum guarantees that the values read are those written from a valid address book, so
+ * they need not be validated again.
+ *
+ * <p>The format is, with every number big-endian:
+ * <pre>
+ * header:  int magic, int version, int checksum (CRC32C of everything after it),
+ *          long sourceSize, long sourceChecksum, int stringCount, int personCount
+ * strings: stringCount times: int byteCount, then the UTF-8 bytes of the string
+ * persons: personCount times: int byteCount, then
+ *          int name, int phone, int email, int telegram, int github, int preferredMode,
+ *          int tagCount, tagCount times int tag, long pinnedAtSeconds, int pinnedAtNanos
+ * </pre>
+ * Each string in a person is the index of the string in the string table, which holds every distinct string once, or
+ * -1 if it is absent. A person who is not pinned has -1 as pinnedAtNanos. The source size and CRC32C checksum are
+ * those of the file the address book was saved to alongside, to tell whether that file has changed since.
+ */
+final class BinarySerializableAddressBook {
+
+    public static final String MESSAGE_CORRUPTED = "Address book snapshot is corrupted.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book snapshot has an unsupported version.";
+
+    /** "AB3S" in ASCII. */
+    private static final int MAGIC = 0x41423353;
+    private static final int VERSION = 2;
+    private static final int CHECKSUM_OFFSET = 8;
+    private static final int CHECKED_OFFSET = CHECKSUM_OFFSET + Integer.BYTES;
+    private static final int SOURCE_SIZE_OFFSET = CHECKED_OFFSET;
+    private static final int SOURCE_CHECKSUM_OFFSET = SOURCE_SIZE_OFFSET + Long.BYTES;
+    private static final int STRING_COUNT_OFFSET = SOURCE_CHECKSUM_OFFSET + Long.BYTES;
+    private static final int PERSON_COUNT_OFFSET = STRING_COUNT_OFFSET + Integer.BYTES;
+    private static final int HEADER_SIZE = PERSON_COUNT_OFFSET + Integer.BYTES;
+    private static final int ABSENT = -1;
+
+    private BinarySerializableAddressBook() {}
+
+    /**
+     * The size and CRC32C checksum of the content of a file.
+     */
+    static final class SourceStamp {
+        private final long size;
+        private final long checksum;
+
+        SourceStamp(long size, long checksum) {
+            this.size = size;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns the current stamp of {@code file}.
+         */
+        static SourceStamp of(Path file) throws IOException {
+            return new SourceStamp(Files.size(file), FileUtil.getChecksum(file));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof SourceStamp)) {
+                return false;
+            }
+
+            SourceStamp otherStamp = (SourceStamp) other;
+            return size == otherStamp.size && checksum == otherStamp.checksum;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + Long.hashCode(checksum);
+        }
+    }
+
+    /**
+     * Writes {@code source} to {@code out}, stamped with {@code sourceStamp}.
+     */
+    static void writeTo(OutputStream out, ReadOnlyAddressBook source, SourceStamp sourceStamp) throws IOException {
+        Map<String, Integer> stringIndices = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        ByteArrayOutputStream personBytes = new ByteArrayOutputStream();
+        DataOutputStream persons = new DataOutputStream(personBytes);
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : source.getPersonList()) {
+            recordBytes.reset();
+            record.writeInt(indexOf(person.getName().fullName, stringIndices, strings));
+            record.writeInt(indexOf(person.getPhone().value, stringIndices, strings));
+            record.writeInt(indexOf(person.getEmail().value, stringIndices, strings));
+            record.writeInt(indexOf(person.getTelegram().value, stringIndices, strings));
+            record.writeInt(indexOf(person.getGithub().value, stringIndices, strings));
+            record.writeInt(indexOf(person.getPreferredMode().name(), stringIndices, strings));
+            record.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                record.writeInt(indexOf(tag.tagName, stringIndices, strings));
+            }
+            Instant pinnedAt = person.getPinnedAt().orElse(null);
+            record.writeLong(pinnedAt == null ? 0 : pinnedAt.getEpochSecond());
+            record.writeInt(pinnedAt == null ? ABSENT : pinnedAt.getNano());
+            persons.writeInt(recordBytes.size());
+            recordBytes.writeTo(persons);
+        }
+
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(personBytes.size() + 16 * strings.size());
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            body.writeInt(bytes.length);
+            body.write(bytes);
+        }
+        personBytes.writeTo(body);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(0)
+                .putLong(sourceStamp.size)
+                .putLong(sourceStamp.checksum)
+                .putInt(strings.size())
+                .putInt(source.getPersonList().size());
+        byte[] bodyArray = bodyBytes.toByteArray();
+        CRC32C checksum = new CRC32C();
+        checksum.update(header.array(), CHECKED_OFFSET, HEADER_SIZE - CHECKED_OFFSET);
+        checksum.update(bodyArray);
+        header.putInt(CHECKSUM_OFFSET, (int) checksum.getValue());
+
+        out.write(header.array());
+        out.write(bodyArray);
+    }
+
+    private static int indexOf(String string, Map<String, Integer> stringIndices, List<String> strings) {
+        if (string == null) {
+            return ABSENT;
+        }
+        return stringIndices.computeIfAbsent(string, unused -> {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the stamp that the address book in {@code buffer} was written with, without checking the rest of it.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold an address book in a supported version.
+     */
+    static SourceStamp readSourceStamp(ByteBuffer buffer) throws IllegalValueException {
+        ByteBuffer in = buffer.slice();
+        checkHeader(in);
+        return new SourceStamp(in.getLong(SOURCE_SIZE_OFFSET), in.getLong(SOURCE_CHECKSUM_OFFSET));
+    }
+
+    /**
+     * Reads the address book in {@code buffer}, from its position to its limit, without changing its position.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold an intact address book in a supported version.
+     */
+    static AddressBook readFrom(ByteBuffer buffer) throws IllegalValueException {
+        ByteBuffer in = buffer.slice();
+        checkHeader(in);
+        CRC32C checksum = new CRC32C();
+        checksum.update(in.duplicate().position(CHECKED_OFFSET));
+        if ((int) checksum.getValue() != in.getInt(CHECKSUM_OFFSET)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        try {
+            int stringCount = in.getInt(STRING_COUNT_OFFSET);
+            int personCount = in.getInt(PERSON_COUNT_OFFSET);
+            in.position(HEADER_SIZE);
+            String[] strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                strings[i] = readString(in, in.getInt());
+            }
+
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                int end = in.getInt() + in.position();
+                persons.add(readPerson(in, strings));
+                if (in.position() != end) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+            }
+            if (in.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    /**
+     * Checks the header of the address book in {@code buffer}, which starts at index 0.
+     */
+    private static void checkHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalValueException(MESSAGE_UNSUPPORTED_VERSION);
+        }
+    }
+
+    private static String readString(ByteBuffer in, int byteCount) {
+        if (byteCount < 0 || byteCount > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String string;
+        if (in.hasArray()) {
+            string = new String(in.array(), in.arrayOffset() + in.position(), byteCount, StandardCharsets.UTF_8);
+            in.position(in.position() + byteCount);
+        } else {
+            byte[] bytes = new byte[byteCount];
+            in.get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    /**
+     * Reads a person whose values were validated before they were written, so they are not validated again.
+     */
+    private static Person readPerson(ByteBuffer in, String[] strings) {
+        Name name = Name.ofValidated(strings[in.getInt()]);
+        Phone phone = Phone.ofValidated(strings[in.getInt()]);
+        Email email = Email.ofValidated(readOptionalString(in, strings));
+        Telegram telegram = Telegram.ofValidated(readOptionalString(in, strings));
+        Github github = Github.ofValidated(readOptionalString(in, strings));
+        PreferredCommunicationMode preferredMode = PreferredCommunicationMode.valueOf(strings[in.getInt()]);
+        int tagCount = in.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(strings[in.getInt()]));
+        }
+        long pinnedAtSeconds = in.getLong();
+        int pinnedAtNanos = in.getInt();
+        Instant pinnedAt = pinnedAtNanos == ABSENT ? null : Instant.ofEpochSecond(pinnedAtSeconds, pinnedAtNanos);
+        return new Person(name, phone, email, telegram, github, preferredMode, tags, pinnedAt);
+    }
+
+    private static String readOptionalString(ByteBuffer in, String[] strings) {
+        int index = in.getInt();
+        return index == ABSENT ? null : strings[index];
+    }
+}
@@ -0,0 +1,454 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedJournalEntry.Operation;
+
+/**
+ * An {@link AddressBookStorage} that saves changes to a tracked person list by appending them to a journal file
+ * next to the data file, instead of rewriting the whole data file on every save.
+ * The journal is replayed on top of the data file when reading, and folded back into the data file once it
+ * holds {@link #COMPACTION_THRESHOLD} entries, or whenever a change is not a single-person add, edit or delete.
+ * The journal starts with a header holding the size and checksum of the data file it was begun on, and is only
+ * replayed on top of that data file, so that a journal left behind by an interrupted compaction, whose entries are
+ * already in the rewritten data file, is not applied twice.
+ *
+ * Changes are recorded on the thread that modifies the tracked persons. A snapshot taken on that thread with
+ * {@link #snapshotAddressBook(ReadOnlyAddressBook)} is stamped with the changes it contains, so it can be saved from
+ * another thread without losing changes made after it was taken. Only a snapshot that will rewrite the data file
+ * copies the tracked persons; one whose changes will be appended to the journal shares a read-only view of them, which
+ * is never read when saving it, so taking it costs the same however many persons there are. Should such a snapshot
+ * turn out to need a rewrite of the data file after all, its save is deferred to the next snapshot, and
+ * {@link #hasUnsavedChanges()} tells that the tracked persons must be saved before the app exits.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** The number of journal entries after which the next save rewrites the data file and empties the journal. */
+    public static final int COMPACTION_THRESHOLD = 1000;
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    public static final String MESSAGE_SAVE_DEFERRED =
+            "These changes could not be added to the journal, so they will be saved along with the next change"
+                    + " or when the app exits.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final Path journalFilePath;
+
+    private final List<JsonAdaptedJournalEntry> pendingEntries = new ArrayList<>();
+    private final ListChangeListener<Person> changeRecorder = this::recordChanges;
+    private ObservableList<Person> trackedPersons;
+    /** The view of the tracked persons shared by snapshots that do not copy them. */
+    private ObservableList<Person> trackedPersonsView;
+    private int journalEntryCount = 0;
+
+    /** The sequence number of the next change to the tracked persons; snapshots are stamped with it. */
+    private long nextSequenceNumber = 1;
+
+    /**
+     * The sequence number of the first change to the tracked persons not held by the data file followed by the
+     * journal, or -1 if they do not hold the tracked persons as they were at any point.
+     */
+    private long savedVersion = -1;
+
+    /** The sequence numbers of the changes that could not be journaled, in order, from {@code savedVersion} on. */
+    private final Deque<Long> unjournaledChanges = new ArrayDeque<>();
+
+    /** Whether the last save of the tracked persons failed or was deferred. */
+    private boolean isLastSaveIncomplete = false;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its data file in {@code addressBookStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Starts recording changes to {@code persons}, which must be the person list of the address book
+     * that will be passed to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     */
+    public synchronized void trackChanges(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        if (trackedPersons != null) {
+            trackedPersons.removeListener(changeRecorder);
+        }
+        trackedPersons = persons;
+        trackedPersonsView = FXCollections.unmodifiableObservableList(persons);
+        persons.addListener(changeRecorder);
+    }
+
+    /**
+     * Returns true if the last save of the tracked persons failed or was deferred, so that some changes to them are in
+     * neither the data file nor the journal until the tracked persons are saved again.
+     */
+    public synchronized boolean hasUnsavedChanges() {
+        return isLastSaveIncomplete;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Reads the data file and replays the journal on top of it.
+     * Returns {@code Optional.empty()} if the data file is not found, in which case the journal is discarded
+     * at the next save.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> savedAddressBook = addressBookStorage.readAddressBook();
+        if (savedAddressBook.isEmpty()) {
+            return savedAddressBook;
+        }
+
+        AddressBook addressBook = new AddressBook(savedAddressBook.get());
+        unjournaledChanges.clear();
+        savedVersion = replayJournal(addressBook) ? nextSequenceNumber : -1;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        if (filePath.equals(getAddressBookFilePath())) {
+            return readAddressBook();
+        }
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Appends the changes recorded up to {@code addressBook} to the journal if it holds or is a snapshot of the
+     * tracked persons, and otherwise, or if compaction is due, rewrites the data file and empties the journal.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        final long version;
+        List<JsonAdaptedJournalEntry> entriesToAppend = null;
+        synchronized (this) {
+            version = getVersion(addressBook);
+            if (version >= 0 && canAppendUpTo(version)) {
+                List<JsonAdaptedJournalEntry> entries = pendingEntries.stream()
+                        .filter(entry -> entry.getSequenceNumber() < version)
+                        .collect(Collectors.toList());
+                if (journalEntryCount + entries.size() < COMPACTION_THRESHOLD) {
+                    pendingEntries.subList(0, entries.size()).clear();
+                    entriesToAppend = entries;
+                }
+            }
+        }
+
+        if (version < 0) {
+            saveUntracked(addressBook);
+            return;
+        }
+
+        try {
+            if (entriesToAppend != null) {
+                append(entriesToAppend);
+            } else {
+                compact(addressBook, version);
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                isLastSaveIncomplete = true;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            isLastSaveIncomplete = false;
+        }
+    }
+
+    /**
+     * Returns the sequence number of the first change to the tracked persons not held by {@code addressBook},
+     * or -1 if {@code addressBook} does not hold the tracked persons.
+     */
+    private long getVersion(ReadOnlyAddressBook addressBook) {
+        assert Thread.holdsLock(this);
+        if (addressBook instanceof TrackedSnapshot) {
+            return ((TrackedSnapshot) addressBook).version;
+        }
+        return addressBook.getPersonList() == trackedPersons ? nextSequenceNumber : -1;
+    }
+
+    /**
+     * Returns true if the changes to the tracked persons before {@code version} can be saved by appending the pending
+     * entries before it to the journal.
+     */
+    private boolean canAppendUpTo(long version) {
+        assert Thread.holdsLock(this);
+        return savedVersion >= 0 && (unjournaledChanges.isEmpty() || unjournaledChanges.peekFirst() >= version)
+                && Files.exists(getAddressBookFilePath());
+    }
+
+    /**
+     * {@inheritDoc}
+     * A snapshot of the tracked persons copies them only if saving it will rewrite the data file.
+     */
+    @Override
+    public synchronized ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook.getPersonList() != trackedPersons) {
+            return AddressBookStorage.super.snapshotAddressBook(addressBook);
+        }
+
+        long version = nextSequenceNumber;
+        // Every pending entry comes before the snapshot, and appending the entries of earlier snapshots or compacting
+        // them cannot bring the journal closer to the threshold, so this saves the snapshot by appending
+        if (canAppendUpTo(version) && journalEntryCount + pendingEntries.size() < COMPACTION_THRESHOLD) {
+            return new TrackedSnapshot(trackedPersonsView, version);
+        }
+        return new TrackedSnapshot(new AddressBookSnapshot(addressBook).getPersonList(), version);
+    }
+
+    @Override
+    public void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        addressBookStorage.exportAddressBookToCsv(addressBook, filePath);
+    }
+
+    /**
+     * Rewrites the data file with {@code addressBook}, which holds the changes before {@code version}, and empties
+     * the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, long version) throws IOException {
+        if (addressBook instanceof TrackedSnapshot && addressBook.getPersonList() == trackedPersonsView) {
+            // The view may have changed since the snapshot was taken. Only a failed save or a removed data file stops
+            // the changes of such a snapshot from being appended, and the snapshot taken at the next change, or the
+            // save before the app exits, will hold the persons to rewrite the data file with
+            throw new IOException(MESSAGE_SAVE_DEFERRED);
+        }
+
+        logger.fine("Compacting journal " + journalFilePath + " into " + getAddressBookFilePath());
+        try {
+            addressBookStorage.saveAddressBook(addressBook, getAddressBookFilePath());
+            Files.deleteIfExists(journalFilePath);
+        } catch (IOException e) {
+            synchronized (this) {
+                savedVersion = -1;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            pendingEntries.removeIf(entry -> entry.getSequenceNumber() < version);
+            unjournaledChanges.removeIf(sequenceNumber -> sequenceNumber < version);
+            journalEntryCount = 0;
+            savedVersion = version;
+        }
+    }
+
+    /**
+     * Rewrites the data file with {@code addressBook}, which is unrelated to the tracked persons, so the next save of
+     * the tracked persons must rewrite the data file too.
+     */
+    private void saveUntracked(ReadOnlyAddressBook addressBook) throws IOException {
+        try {
+            addressBookStorage.saveAddressBook(addressBook, getAddressBookFilePath());
+            Files.deleteIfExists(journalFilePath);
+        } finally {
+            synchronized (this) {
+                journalEntryCount = 0;
+                savedVersion = -1;
+            }
+        }
+    }
+
+    private void append(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        List<String> lines = new ArrayList<>(entries.size() + 1);
+        if (!Files.exists(journalFilePath)) {
+            lines.add(JsonUtil.toSingleLineJsonString(JsonAdaptedJournalHeader.of(getAddressBookFilePath())));
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.add(JsonUtil.toSingleLineJsonString(entry));
+        }
+        try {
+            Files.write(journalFilePath, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // The journal may now end in a partial entry, so the next save must rewrite the data file instead
+            synchronized (this) {
+                savedVersion = -1;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            journalEntryCount += entries.size();
+        }
+    }
+
+    /**
+     * Applies the entries in the journal to {@code addressBook}, if the journal was begun on the current data file.
+     * Replay stops at the first entry that cannot be parsed, which is left behind by a save interrupted mid-write.
+     *
+     * @return true if every entry in the journal was applied.
+     * @throws DataLoadingException if the journal exists but cannot be read.
+     */
+    private boolean replayJournal(AddressBook addressBook) throws DataLoadingException {
+        journalEntryCount = 0;
+        if (!Files.exists(journalFilePath)) {
+            return true;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        if (!isJournalOfDataFile(lines)) {
+            logger.warning("Ignoring journal " + journalFilePath + " as it was not begun on the current data file");
+            return false;
+        }
+
+        boolean isFullyApplied = true;
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                logger.warning("Ignoring the rest of journal " + journalFilePath + " after an unreadable entry: " + e);
+                return false;
+            }
+
+            try {
+                entry.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.warning("Skipping journal entry: " + ive.getMessage());
+                isFullyApplied = false;
+            }
+            journalEntryCount++;
+            nextSequenceNumber = Math.max(nextSequenceNumber, entry.getSequenceNumber() + 1);
+        }
+        logger.info("Replayed " + journalEntryCount + " journal entries from " + journalFilePath);
+        return isFullyApplied;
+    }
+
+    /**
+     * Returns true if {@code journalLines} start with the header of the current data file.
+     */
+    private boolean isJournalOfDataFile(List<String> journalLines) throws DataLoadingException {
+        if (journalLines.isEmpty()) {
+            return false;
+        }
+
+        JsonAdaptedJournalHeader header;
+        try {
+            header = JsonUtil.fromJsonString(journalLines.get(0), JsonAdaptedJournalHeader.class);
+        } catch (IOException e) {
+            return false;
+        }
+
+        try {
+            return header.isValid() && header.equals(JsonAdaptedJournalHeader.of(getAddressBookFilePath()));
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private synchronized void recordChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            List<? extends Person> removed = change.getRemoved();
+            List<? extends Person> added = change.getAddedSubList();
+
+            if (change.wasReplaced() && removed.size() == added.size()) {
+                // Neighbouring replacements in one change are merged into a single sub-change
+                for (int i = 0; i < removed.size(); i++) {
+                    record(Operation.EDIT, removed.get(i), added.get(i));
+                }
+            } else if (change.wasPermutated() || change.wasUpdated() || removed.size() > 1 || added.size() > 1) {
+                recordUnjournaledChange();
+            } else if (change.wasAdded() && change.getTo() == change.getList().size()) {
+                record(Operation.ADD, null, added.get(0));
+            } else if (change.wasRemoved()) {
+                record(Operation.DELETE, removed.get(0), null);
+            } else {
+                // Insertions other than appends cannot be replayed in place
+                recordUnjournaledChange();
+            }
+        }
+    }
+
+    private void record(Operation operation, Person target, Person person) {
+        pendingEntries.add(new JsonAdaptedJournalEntry(nextSequenceNumber++, operation, target, person));
+    }
+
+    /**
+     * Records a change that cannot be journaled, so that snapshots taken after it must rewrite the data file.
+     */
+    private void recordUnjournaledChange() {
+        unjournaledChanges.add(nextSequenceNumber++);
+    }
+
+    /**
+     * A snapshot of the tracked persons holding exactly the changes before {@code version}.
+     * Its persons are a copy if it was taken to rewrite the data file, and otherwise the view of the tracked persons.
+     */
+    private static class TrackedSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long version;
+
+        TrackedSnapshot(ObservableList<Person> persons, long version) {
+            this.persons = persons;
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change recorded by a {@link JournaledAddressBookStorage}.
+ * Edits, pins and tag changes are all recorded as {@code EDIT}s, since they replace a person in place.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry has an unknown operation: %s";
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    enum Operation {
+        ADD, EDIT, DELETE
+    }
+
+    private final long sequenceNumber;
+    private final String operation;
+    private final JsonAdaptedPerson target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequenceNumber") long sequenceNumber,
+                                   @JsonProperty("operation") String operation,
+                                   @JsonProperty("target") JsonAdaptedPerson target,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.sequenceNumber = sequenceNumber;
+        this.operation = operation;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Constructs an entry recording {@code operation}, where {@code target} is the person replaced or deleted and
+     * {@code person} is the person added or the result of the edit. Either may be null if unused by the operation.
+     */
+    public JsonAdaptedJournalEntry(long sequenceNumber, Operation operation, Person target, Person person) {
+        this(sequenceNumber, operation.name(),
+                target == null ? null : new JsonAdaptedPerson(target),
+                person == null ? null : new JsonAdaptedPerson(person));
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * Applies the recorded change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the entry is malformed or cannot be applied to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        Operation modelOperation;
+        try {
+            modelOperation = Operation.valueOf(String.valueOf(operation));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+
+        try {
+            switch (modelOperation) {
+            case ADD:
+                addressBook.addPerson(require(person, "person").toModelType());
+                break;
+            case EDIT:
+                addressBook.setPerson(require(target, "target").toModelType(),
+                        require(person, "person").toModelType());
+                break;
+            case DELETE:
+                addressBook.removePerson(require(target, "target").toModelType());
+                break;
+            default:
+                throw new AssertionError("Unhandled operation: " + modelOperation);
+            }
+        } catch (RuntimeException e) {
+            // Duplicate or missing persons mean the entry does not follow from the current data
+            throw new IllegalValueException("Journal entry #" + sequenceNumber + " cannot be applied: " + e, e);
+        }
+    }
+
+    private static JsonAdaptedPerson require(JsonAdaptedPerson field, String fieldName)
+            throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Jackson-friendly version of the first line of a journal written by {@link JournaledAddressBookStorage}, which
+ * identifies the data file that the entries after it were recorded on top of by its size and checksum.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final Long dataFileSize;
+    private final Long dataFileChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given size and checksum of the data file.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("dataFileSize") Long dataFileSize,
+                                    @JsonProperty("dataFileChecksum") Long dataFileChecksum) {
+        this.dataFileSize = dataFileSize;
+        this.dataFileChecksum = dataFileChecksum;
+    }
+
+    /**
+     * Returns the header identifying the current content of {@code dataFile}.
+     */
+    public static JsonAdaptedJournalHeader of(Path dataFile) throws IOException {
+        return new JsonAdaptedJournalHeader(Files.size(dataFile), FileUtil.getChecksum(dataFile));
+    }
+
+    /**
+     * Returns true if this is a complete header, and not some other line read as one.
+     */
+    public boolean isValid() {
+        return dataFileSize != null && dataFileChecksum != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JsonAdaptedJournalHeader)) {
+            return false;
+        }
+
+        JsonAdaptedJournalHeader otherHeader = (JsonAdaptedJournalHeader) other;
+        return Objects.equals(dataFileSize, otherHeader.dataFileSize)
+                && Objects.equals(dataFileChecksum, otherHeader.dataFileChecksum);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataFileSize, dataFileChecksum);
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +27,9 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_DETAILS = "Person #%d (%s) duplicates person #%d.";
+
+    private static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -46,15 +56,77 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(ParallelPersonConverter.convertAll(persons));
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, converting batches of persons in parallel
+     * while the rest are read, so that the adapted persons are never held all at once.
+     *
+     * @throws IOException if the input is not JSON or not a JSON object.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!fieldName.equals(PERSONS_FIELD) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                converter.add(parser.readValueAs(JsonAdaptedPerson.class));
             }
-            addressBook.addPerson(person);
         }
+        return toAddressBook(converter.finish());
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the format of this class, adapting one person at a time.
+     */
+    public static void writeTo(JsonGenerator generator, ReadOnlyAddressBook source) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns an {@code AddressBook} of {@code modelPersons}.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons.
+     */
+    private static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        Map<Integer, Integer> duplicates = UniquePersonList.findDuplicates(modelPersons);
+        if (!duplicates.isEmpty()) {
+            throw new IllegalValueException(getDuplicatePersonsMessage(modelPersons, duplicates));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
+    /**
+     * Returns an error message listing every duplicate person, using one-based positions in the persons list.
+     */
+    static String getDuplicatePersonsMessage(List<Person> modelPersons, Map<Integer, Integer> duplicates) {
+        StringBuilder message = new StringBuilder(MESSAGE_DUPLICATE_PERSON);
+        duplicates.forEach((duplicatePosition, firstPosition) -> message.append("\n")
+                .append(String.format(MESSAGE_DUPLICATE_PERSON_DETAILS, duplicatePosition + 1,
+                        modelPersons.get(duplicatePosition).getName(), firstPosition + 1)));
+        return message.toString();
+    }
+
 }
@@ -2,8 +2,12 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,10 +17,17 @@ import seedu.address.model.CommandHistory;
 import seedu.address.model.ReadOnlyCommandHistory;
 
 /**
- * A class to access CommandHistory stored in the hard disk
+ * A class to access CommandHistory stored in the hard disk.
+ * The file is an append-only log with one command per line: saving appends only the commands added since the last
+ * save, so each command costs O(1) to save however long the history is. The file is rewritten with just the kept
+ * commands when it cannot be appended to, or once it holds more than twice as many commands as are kept.
  */
 public class NewlineDelimitedCommandHistoryStorage implements CommandHistoryStorage {
+    private static final long MAX_LINES_BEFORE_COMPACTION = 2L * CommandHistory.HISTORY_CAPACITY;
+
     private Path filePath;
+    /** The number of commands in the history last read or saved, or -1 if the file must be rewritten. */
+    private long savedCommandCount = -1;
 
     /**
      * Constructs an object with the provided filePath
@@ -38,52 +49,57 @@ public class NewlineDelimitedCommandHistoryStorage implements CommandHistoryStor
             return Optional.empty();
         }
 
-        String data;
-        try {
-            data = FileUtil.readFromFile(filePath);
+        CommandHistory history = new CommandHistory();
+        long lineCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineCount++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                // Process each line as a command
+                history.addCommandToHistory(line.trim());
+            }
         } catch (IOException e) {
             throw new DataLoadingException(e);
         }
 
-        CommandHistory history = new CommandHistory();
-        addAllCommandsInTextToHistory(data, history);
-
+        boolean canAppend = lineCount == history.getCommandCount() && lineCount <= MAX_LINES_BEFORE_COMPACTION;
+        savedCommandCount = canAppend ? history.getCommandCount() : -1;
         return Optional.of(history);
     }
 
-    private void addAllCommandsInTextToHistory(String text, CommandHistory history) {
-        for (String line : text.split("\n")) {
-            if (line.isBlank()) {
-                continue;
-            }
-            // Process each line as a command
-            history.addCommandToHistory(line.trim());
-        }
-    }
-
+    /**
+     * {@inheritDoc}
+     * Only the commands of {@code history} added since the last read or save are written, so {@code history} must
+     * hold every command added since then, numbered as in the history that was last read or saved.
+     */
     @Override
     public void saveCommandHistory(ReadOnlyCommandHistory history) throws IOException {
         requireNonNull(history);
         requireNonNull(filePath);
 
-        String data = convertHistoryToNewlineDelimitedString(history);
-
-        FileUtil.createIfMissing(filePath);
-        FileUtil.writeToFile(filePath, data);
+        long commandCount = history.getCommandCount();
+        List<String> newCommands = savedCommandCount < 0 || commandCount < savedCommandCount
+                ? null
+                : history.getCommandsSince(savedCommandCount);
+        FileUtil.createParentDirsOfFile(filePath);
+        if (newCommands != null && newCommands.size() == commandCount - savedCommandCount
+                && Files.exists(filePath)) {
+            Files.write(filePath, newCommands, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } else {
+            FileUtil.writeToFile(filePath, convertCommandsToNewlineDelimitedString(history.getCommandsSince(0)));
+        }
+        savedCommandCount = commandCount;
     }
 
-    private String convertHistoryToNewlineDelimitedString(ReadOnlyCommandHistory history) {
-        requireNonNull(history);
-
+    private String convertCommandsToNewlineDelimitedString(List<String> commands) {
         StringBuilder sb = new StringBuilder();
-        List<String> historyList = history.getHistory();
-
-        // Reverse-iterate through the list to order data from
-        // the oldest command (top) -> the newest command (bottom)
-        for (int i = historyList.size() - 1; i >= 0; i--) {
-            sb.append(historyList.get(i)).append("\n");
+        // Order data from the oldest command (top) -> the newest command (bottom)
+        for (String command : commands) {
+            sb.append(command).append("\n");
         }
-
         return sb.toString();
     }
 }
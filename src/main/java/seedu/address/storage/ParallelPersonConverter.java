@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts adapted persons into the model's {@code Person} objects in batches on a {@code ForkJoinPool}, while the
+ * caller goes on reading more of them.
+ * The converted persons are kept in the order the adapted persons were added. If any adapted person is invalid, the
+ * error reported is that of the first invalid one in that order, however the batches happen to be scheduled.
+ * Only a few batches are converted at a time, so that the adapted persons waiting to be converted stay few.
+ * Not safe for use by multiple threads.
+ */
+class ParallelPersonConverter {
+
+    public static final String MESSAGE_INVALID_PERSON = "Person #%d is invalid: %s";
+
+    /** The number of adapted persons converted together, which is enough to outweigh the cost of scheduling them. */
+    static final int BATCH_SIZE = 512;
+
+    private final ForkJoinPool pool;
+    private final int maxBatchesInFlight;
+    private final List<Person> convertedPersons = new ArrayList<>();
+    private final Deque<ForkJoinTask<ConvertedBatch>> batchesInFlight = new ArrayDeque<>();
+    private List<JsonAdaptedPerson> nextBatch = new ArrayList<>(BATCH_SIZE);
+    /** The position of the first adapted person in {@code nextBatch}. */
+    private int nextBatchStart;
+    private IllegalValueException firstError;
+
+    /**
+     * The persons converted from one batch, or the error of its first invalid adapted person.
+     */
+    private static class ConvertedBatch {
+        private final List<Person> persons;
+        private final IllegalValueException error;
+
+        private ConvertedBatch(List<Person> persons, IllegalValueException error) {
+            this.persons = persons;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Creates a converter that converts on the common pool.
+     */
+    ParallelPersonConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a converter that converts on {@code pool}.
+     */
+    ParallelPersonConverter(ForkJoinPool pool) {
+        this.pool = pool;
+        this.maxBatchesInFlight = 2 * pool.getParallelism();
+    }
+
+    /**
+     * Adds {@code adaptedPerson} to be converted after the adapted persons added before it.
+     *
+     * @throws IllegalValueException if an adapted person added before it is invalid.
+     */
+    void add(JsonAdaptedPerson adaptedPerson) throws IllegalValueException {
+        if (firstError != null) {
+            throw firstError;
+        }
+        nextBatch.add(adaptedPerson);
+        if (nextBatch.size() == BATCH_SIZE) {
+            List<JsonAdaptedPerson> batch = nextBatch;
+            int batchStart = nextBatchStart;
+            batchesInFlight.add(pool.submit(() -> convert(batch, batchStart)));
+            nextBatch = new ArrayList<>(BATCH_SIZE);
+            nextBatchStart += BATCH_SIZE;
+            while (batchesInFlight.size() > maxBatchesInFlight) {
+                joinOldestBatch();
+            }
+        }
+    }
+
+    /**
+     * Returns the persons converted from every adapted person added, in the order they were added.
+     *
+     * @throws IllegalValueException if any adapted person is invalid, for the first invalid one.
+     */
+    List<Person> finish() throws IllegalValueException {
+        // The last batch is too small to be worth handing over, so convert it while the others finish
+        ConvertedBatch lastBatch = convert(nextBatch, nextBatchStart);
+        nextBatch = new ArrayList<>();
+        while (!batchesInFlight.isEmpty()) {
+            joinOldestBatch();
+        }
+        addConvertedBatch(lastBatch);
+        if (firstError != null) {
+            throw firstError;
+        }
+        return convertedPersons;
+    }
+
+    /**
+     * Returns the persons converted from {@code adaptedPersons} on the common pool, in the same order.
+     *
+     * @throws IllegalValueException if any adapted person is invalid, for the first invalid one.
+     */
+    static List<Person> convertAll(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+            converter.add(adaptedPerson);
+        }
+        return converter.finish();
+    }
+
+    private void joinOldestBatch() {
+        ConvertedBatch batch = batchesInFlight.remove().join();
+        addConvertedBatch(batch);
+        if (firstError != null) {
+            // Later batches cannot change the outcome
+            batchesInFlight.forEach(task -> task.cancel(false));
+            batchesInFlight.clear();
+        }
+    }
+
+    private void addConvertedBatch(ConvertedBatch batch) {
+        if (firstError != null) {
+            return;
+        }
+        if (batch.error != null) {
+            firstError = batch.error;
+            return;
+        }
+        convertedPersons.addAll(batch.persons);
+    }
+
+    /**
+     * Converts {@code batch}, whose first adapted person is at position {@code batchStart}, stopping at the first
+     * invalid one.
+     */
+    private static ConvertedBatch convert(List<JsonAdaptedPerson> batch, int batchStart) {
+        List<Person> persons = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                persons.add(batch.get(i).toModelType());
+            } catch (IllegalValueException e) {
+                return new ConvertedBatch(null, new IllegalValueException(
+                        String.format(MESSAGE_INVALID_PERSON, batchStart + i + 1, e.getMessage()), e));
+            }
+        }
+        return new ConvertedBatch(persons, null);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -16,6 +17,11 @@ import seedu.address.model.UserPrefs;
  */
 public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHistoryStorage {
 
+    String MESSAGE_SAVE_FAILED = "Could not save data due to the following error: %s";
+
+    String MESSAGE_SAVE_PERMISSION_DENIED =
+            "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
+
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
 
@@ -31,6 +37,9 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHi
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook);
+
     @Override
     Path getCommandHistoryFilePath();
 
@@ -47,4 +56,19 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHi
      * @throws IOException if there was any problem writing to the file
      */
     void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Blocks until every save requested so far has been written.
+     * Storages that save synchronously have nothing to flush.
+     */
+    default void flush() {}
+
+    /**
+     * Returns the message telling the user that data could not be saved because of {@code e}.
+     */
+    static String getSaveErrorMessage(IOException e) {
+        return e instanceof AccessDeniedException
+                ? String.format(MESSAGE_SAVE_PERMISSION_DENIED, e.getMessage())
+                : String.format(MESSAGE_SAVE_FAILED, e.getMessage());
+    }
 }
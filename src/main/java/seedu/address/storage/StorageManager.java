@@ -82,6 +82,11 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.snapshotAddressBook(addressBook);
+    }
+
     // ================ CommandHistory methods ==============================
     @Override
     public Path getCommandHistoryFilePath() {
@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@link Storage} that writes the address book and command history to another {@code Storage} on a single
+ * background thread, so that saving does not block the caller.
+ * Saves requested while an earlier one is still waiting to be written are coalesced, and only the latest snapshot
+ * is written. Errors during background writes are logged and passed to an error handler, since the caller has moved on
+ * by then.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final Consumer<String> errorHandler;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private final AtomicReference<ReadOnlyCommandHistory> pendingCommandHistory = new AtomicReference<>();
+    /** The number of commands in the command history last written, or -1 if none has been written. */
+    private volatile long writtenCommandCount = -1;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} and reports failed writes,
+     * from the writer thread, to {@code errorHandler}.
+     */
+    public WriteBehindStorage(Storage storage, Consumer<String> errorHandler) {
+        requireNonNull(storage);
+        requireNonNull(errorHandler);
+        this.storage = storage;
+        this.errorHandler = errorHandler;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written in the background.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pendingAddressBook.getAndSet(storage.snapshotAddressBook(addressBook)) == null) {
+            writer.execute(() -> write(pendingAddressBook.getAndSet(null), storage::saveAddressBook));
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} once earlier saves have been written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        return storage.snapshotAddressBook(addressBook);
+    }
+
+    @Override
+    public void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.exportAddressBookToCsv(addressBook, filePath);
+    }
+
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return storage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public Optional<CommandHistory> readCommandHistory() throws DataLoadingException {
+        flush();
+        return storage.readCommandHistory();
+    }
+
+    /**
+     * Schedules a copy of the commands of {@code commandHistory} that have not been written yet to be written in the
+     * background.
+     */
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) {
+        requireNonNull(commandHistory);
+        long writtenCount = writtenCommandCount;
+        // A history with fewer commands than were written has been cleared since, so it is copied whole
+        long copiedFrom = commandHistory.getCommandCount() < writtenCount ? -1 : writtenCount;
+        if (pendingCommandHistory.getAndSet(CommandHistory.copySince(commandHistory, copiedFrom)) == null) {
+            writer.execute(() -> {
+                ReadOnlyCommandHistory pending = pendingCommandHistory.getAndSet(null);
+                if (write(pending, storage::saveCommandHistory)) {
+                    writtenCommandCount = pending.getCommandCount();
+                }
+            });
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written.
+     */
+    @Override
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Empty task cannot fail", e);
+        }
+    }
+
+    /**
+     * Writes {@code data} with {@code writeOperation}, reporting any failure, and returns true if it was written.
+     */
+    private <T> boolean write(T data, Writer<T> writeOperation) {
+        try {
+            writeOperation.write(data);
+            return true;
+        } catch (IOException e) {
+            logger.warning("Error occurred while saving to file: " + e.getMessage());
+            errorHandler.accept(Storage.getSaveErrorMessage(e));
+        }
+        return false;
+    }
+
+    /**
+     * A save operation on the underlying storage.
+     */
+    @FunctionalInterface
+    private interface Writer<T> {
+        void write(T data) throws IOException;
+    }
+}
@@ -1,12 +1,16 @@
 package seedu.address.ui;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.autocomplete.Autocompletor;
+import seedu.address.logic.autocomplete.BackgroundAutocompletor;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -20,12 +24,18 @@ public class CommandBox extends UiPart<Region> {
     public static final KeyCode GO_PREVIOUS_COMMAND = KeyCode.UP;
     public static final KeyCode GO_NEXT_COMMAND = KeyCode.DOWN;
     public static final KeyCode FILL_AUTOCOMPLETE = KeyCode.TAB;
+    public static final KeyCombination SEARCH_PREVIOUS_COMMAND =
+            new KeyCodeCombination(KeyCode.R, KeyCombination.CONTROL_DOWN);
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final long HINT_DEBOUNCE_DELAY_MILLIS = 30;
 
     private final CommandExecutor commandExecutor;
-    private final Autocompletor autocompletor;
+    private final BackgroundAutocompletor autocompletor;
     private final ReadOnlyCommandHistory chm;
+    /** The text being searched for in the command history, or null if the command box is not showing a match. */
+    private String historySearchQuery;
+    private String historySearchMatch;
 
     @FXML
     private TextField commandTextField;
@@ -41,7 +51,7 @@ public class CommandBox extends UiPart<Region> {
             ReadOnlyCommandHistory chm) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        this.autocompletor = autocompletor;
+        this.autocompletor = new BackgroundAutocompletor(autocompletor, HINT_DEBOUNCE_DELAY_MILLIS, Platform::runLater);
         this.chm = chm;
         // calls handleInput whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, newText) -> handleInput(newText));
@@ -68,16 +78,23 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the input in the command box. Resets
-     * style and updates hint text.
+     * style and requests a new hint text, which is computed in the background.
+     * The current hint is kept until then only if it still completes the input.
      */
     private void handleInput(String commandText) {
         setStyleToDefault();
+        if (!commandText.equals(historySearchMatch)) {
+            historySearchQuery = null;
+        }
         if (commandText.equals("")) {
+            autocompletor.cancel();
             commandHintField.setText("");
             return;
         }
-        String hint = autocompletor.getHint(commandText);
-        commandHintField.setText(hint);
+        if (!commandHintField.getText().startsWith(commandText)) {
+            commandHintField.setText("");
+        }
+        autocompletor.requestHint(commandText, commandHintField::setText);
     }
 
     /**
@@ -110,6 +127,9 @@ public class CommandBox extends UiPart<Region> {
         } else if (event.getCode().equals(FILL_AUTOCOMPLETE)) {
             fillAutocomplete();
             event.consume();
+        } else if (SEARCH_PREVIOUS_COMMAND.match(event)) {
+            searchPreviousCommand();
+            event.consume();
         }
     }
 
@@ -122,6 +142,28 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.positionCaret(previousCommand.length());
     }
 
+    /**
+     * Replaces the text in the command box with the closest previous command containing the text that was in the box
+     * when the search started. Searching again without editing the text finds the next older match.
+     */
+    private void searchPreviousCommand() {
+        String commandText = commandTextField.getText();
+        if (historySearchQuery == null) {
+            if (commandText.isBlank()) {
+                return;
+            }
+            historySearchQuery = commandText.trim();
+        }
+        String match = chm.searchPreviousCommand(historySearchQuery, commandText);
+        if (match == null) {
+            setStyleToIndicateCommandFailure();
+            return;
+        }
+        historySearchMatch = match;
+        commandTextField.setText(match);
+        commandTextField.positionCaret(match.length());
+    }
+
     private void goToNextCommand() {
         String nextCommand = chm.getNextCommandFromHistory();
         if (nextCommand == null) {
@@ -1,9 +1,13 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Hyperlink;
 import javafx.scene.control.Label;
 import javafx.scene.control.Labeled;
@@ -32,10 +36,13 @@ public class PersonCard extends UiPart<Region> {
      *
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
-    public final Person person;
+    private Person person;
 
     private final Consumer<String> feedbackConsumer;
 
+    /** The "(Preferred)" graphics of the contact fields, created when first needed and reused afterwards. */
+    private final Map<Labeled, PreferredGraphic> preferredGraphics = new HashMap<>();
+
     @FXML
     private HBox cardPane;
     @FXML
@@ -56,7 +63,7 @@ public class PersonCard extends UiPart<Region> {
     private ImageView pinIcon;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      * If a contact method matches the person's preferred communication mode, a "(preferred)" suffix is appended.
      *
      * @param person            The person whose details are to be displayed.
@@ -64,9 +71,27 @@ public class PersonCard extends UiPart<Region> {
      * @param feedbackConsumer  The consumer to handle feedback messages.
      */
     public PersonCard(Person person, int displayedIndex, Consumer<String> feedbackConsumer) {
+        this(feedbackConsumer);
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in with {@link #setPerson(Person, int)}.
+     * The layout is loaded once here, so a card can be reused for many persons without loading it again.
+     *
+     * @param feedbackConsumer  The consumer to handle feedback messages.
+     */
+    public PersonCard(Consumer<String> feedbackConsumer) {
         super(FXML);
-        this.person = person;
         this.feedbackConsumer = feedbackConsumer;
+    }
+
+    /**
+     * Displays {@code person} at {@code displayedIndex} in this card, replacing the person displayed before.
+     * If a contact method matches the person's preferred communication mode, a "(preferred)" suffix is appended.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
 
@@ -74,27 +99,42 @@ public class PersonCard extends UiPart<Region> {
         pinIcon.setVisible(person.isPinned());
 
         // Mandatory Field: Phone
-        String phoneText = person.getPhone().value;
-        phone.setText(phoneText);
-        phone.setVisible(true);
-        phone.setManaged(true);
-
-        PreferredCommunicationMode preferredMode = person.getPreferredMode();
-        boolean isPreferredPhone = preferredMode == PreferredCommunicationMode.PHONE;
-
-        // Set preferred styling for phone field
-        if (isPreferredPhone) {
-            setPreferredContactField(phone, phoneText, "");
-        }
+        setContactField(phone, person.getPhone().value, "", PreferredCommunicationMode.PHONE);
 
         // Optional Fields
         setContactField(email, person.getEmail().value, "", PreferredCommunicationMode.EMAIL);
         setContactField(telegram, person.getTelegram().value, "Telegram: ", PreferredCommunicationMode.TELEGRAM);
         setContactField(github, person.getGithub().value, "Github: ", null);
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the person displayed in this card.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code tagNames} in the tag labels of this card, reusing the labels of the previous person's tags.
+     * Labels left over are hidden rather than removed, so that they can be reused for the next person.
+     */
+    private void setTags(List<String> tagNames) {
+        List<Node> tagLabels = tags.getChildren();
+        while (tagLabels.size() < tagNames.size()) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < tagLabels.size(); i++) {
+            Label tagLabel = (Label) tagLabels.get(i);
+            boolean isUsed = i < tagNames.size();
+            tagLabel.setText(isUsed ? tagNames.get(i) : "");
+            tagLabel.setVisible(isUsed);
+            tagLabel.setManaged(isUsed);
+        }
     }
 
     /**
@@ -145,18 +185,9 @@ public class PersonCard extends UiPart<Region> {
      * @param fieldName the field name to show before the value
      */
     private void setPreferredContactField(Labeled label, String value, String fieldName) {
-        Text mainText = new Text(fieldName + value + " ");
-        Text preferredText = new Text(PREFERRED_SUFFIX);
-
-        // Main text: inherits hyperlink color (preserves hover effect)
-        mainText.fillProperty().bind(label.textFillProperty());
-
-        // Preferred text: gold & bold
-        preferredText.getStyleClass().add("preferred-tag");
-
-        // Combine into a single flow and apply to the label
-        TextFlow flow = new TextFlow(mainText, preferredText);
-        label.setGraphic(flow);
+        PreferredGraphic graphic = preferredGraphics.computeIfAbsent(label, PreferredGraphic::new);
+        graphic.mainText.setText(fieldName + value + " ");
+        label.setGraphic(graphic.flow);
         label.setText(""); // clear plain text to prevent duplication
     }
 
@@ -180,4 +211,25 @@ public class PersonCard extends UiPart<Region> {
         feedbackConsumer.accept(result.getMessage());
     }
 
+    /**
+     * The graphic that shows a contact field as the preferred communication mode, followed by a gold, bold
+     * "(Preferred)" suffix.
+     */
+    private static class PreferredGraphic {
+        private final Text mainText = new Text();
+        private final TextFlow flow;
+
+        private PreferredGraphic(Labeled label) {
+            Text preferredText = new Text(PREFERRED_SUFFIX);
+
+            // Main text: inherits hyperlink color (preserves hover effect)
+            mainText.fillProperty().bind(label.textFillProperty());
+
+            // Preferred text: gold & bold
+            preferredText.getStyleClass().add("preferred-tag");
+
+            // Combine into a single flow to be applied to the label
+            flow = new TextFlow(mainText, preferredText);
+        }
+    }
 }
@@ -63,8 +63,12 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The {@code ListView} only creates as many cells as fit on screen and reuses them while scrolling, so each cell
+     * keeps a single card and rebinds it to the person it is given, instead of loading a new card every time.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -73,7 +77,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, feedbackConsumer).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard(feedbackConsumer);
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -47,7 +47,7 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
-            mainWindow.createCommandBox(new Autocompletor(), commandHistory);
+            mainWindow.createCommandBox(new Autocompletor(logic.getAddressBook().getPersonList()), commandHistory);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -0,0 +1,138 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.NewlineDelimitedCommandHistoryStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+public class AppInitializerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<String> notifications = new ArrayList<>();
+    private Path addressBookFilePath;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookFilePath = temporaryFolder.resolve("addressbook.json");
+        storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")),
+                new NewlineDelimitedCommandHistoryStorage(temporaryFolder.resolve("history.txt")));
+    }
+
+    @Test
+    public void initAddressBookStorage_savesDataFileSnapshotAndJournal() throws Exception {
+        JournaledAddressBookStorage addressBookStorage = AppInitializer.initAddressBookStorage(addressBookFilePath);
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(addressBookStorage.readAddressBook().get());
+        addressBookStorage.trackChanges(addressBook.getPersonList());
+        addressBook.addPerson(HOON);
+        addressBookStorage.saveAddressBook(addressBook);
+
+        assertTrue(Files.exists(addressBookFilePath));
+        assertTrue(Files.exists(
+                temporaryFolder.resolve("addressbook.json" + BinaryAddressBookStorage.SNAPSHOT_FILE_SUFFIX)));
+        assertTrue(Files.exists(addressBookStorage.getJournalFilePath()));
+        assertEquals(addressBook, AppInitializer.initAddressBookStorage(addressBookFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveBeforeExit_lastSaveFailed_savesAddressBook() throws Exception {
+        JournaledAddressBookStorage addressBookStorage = AppInitializer.initAddressBookStorage(addressBookFilePath);
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        Storage journaledStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")),
+                new NewlineDelimitedCommandHistoryStorage(temporaryFolder.resolve("history.txt")));
+        Model model = AppInitializer.initModelManager(journaledStorage, new UserPrefs(), notifications::add);
+        addressBookStorage.trackChanges(model.getAddressBook().getPersonList());
+
+        // A journal that cannot be written to
+        Files.createDirectory(addressBookStorage.getJournalFilePath());
+        model.addPerson(HOON);
+        assertThrows(IOException.class, () -> journaledStorage.saveAddressBook(model.getAddressBook()));
+
+        AppInitializer.saveBeforeExit(journaledStorage, addressBookStorage, model);
+        assertFalse(addressBookStorage.hasUnsavedChanges());
+        assertEquals(model.getAddressBook(),
+                AppInitializer.initAddressBookStorage(addressBookFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveBeforeExit_lastSaveSucceeded_keepsJournal() throws Exception {
+        JournaledAddressBookStorage addressBookStorage = AppInitializer.initAddressBookStorage(addressBookFilePath);
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(addressBookStorage.readAddressBook().get());
+        Model model = new ModelManager(addressBook, new UserPrefs(), new CommandHistory());
+        addressBookStorage.trackChanges(model.getAddressBook().getPersonList());
+        model.addPerson(HOON);
+        addressBookStorage.saveAddressBook(model.getAddressBook());
+        String journal = Files.readString(addressBookStorage.getJournalFilePath());
+
+        AppInitializer.saveBeforeExit(storage, addressBookStorage, model);
+        assertEquals(journal, Files.readString(addressBookStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void initModelManager_validDataFile_loadsDataWithoutNotifying() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Model model = AppInitializer.initModelManager(storage, new UserPrefs(), notifications::add);
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertTrue(notifications.isEmpty());
+    }
+
+    @Test
+    public void initModelManager_corruptedDataFileWithBackup_startsEmptyAndPointsToBackup() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(addressBookFilePath, "{ \"persons\": [ { \"name\": ");
+
+        Model model = AppInitializer.initModelManager(storage, new UserPrefs(), notifications::add);
+
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertEquals(1, notifications.size());
+        String backupMessage = String.format(AppInitializer.MESSAGE_BACKUP_AVAILABLE,
+                FileUtil.getBackupPath(addressBookFilePath));
+        assertTrue(notifications.get(0).endsWith(backupMessage));
+    }
+
+    @Test
+    public void initModelManager_corruptedDataFileWithoutBackup_startsEmptyAndNotifies() throws Exception {
+        Files.writeString(addressBookFilePath, "{ \"persons\": [ { \"name\": ");
+
+        Model model = AppInitializer.initModelManager(storage, new UserPrefs(), notifications::add);
+
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertEquals(1, notifications.size());
+        assertTrue(notifications.get(0).startsWith("Data file at " + addressBookFilePath));
+    }
+}
@@ -39,6 +39,14 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_commandLineArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse("--headless", "--config=config.json"));
+        assertEquals(new AppParameters(), AppParameters.parse("--headless", "config.json", "--=config.json"));
+        assertEquals(new AppParameters(), AppParameters.parse("--config=a\0"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
@@ -0,0 +1,90 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.StateManager;
+import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.NewlineDelimitedCommandHistoryStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream outputBytes = new ByteArrayOutputStream();
+    private final PrintStream output = new PrintStream(outputBytes, true, StandardCharsets.UTF_8);
+    private Model model = new ModelManager();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new NewlineDelimitedCommandHistoryStorage(temporaryFolder.resolve(".hist")));
+        CommandRegistry.initialize();
+        app = new HeadlessApp(new LogicManager(model, storage, new StateManager()));
+    }
+
+    @Test
+    public void isRequested() {
+        assertTrue(HeadlessApp.isRequested("--config=config.json", HeadlessApp.HEADLESS_FLAG));
+        assertFalse(HeadlessApp.isRequested());
+        assertFalse(HeadlessApp.isRequested("--config=config.json"));
+    }
+
+    @Test
+    public void run_validCommands_writesResultOfEach() throws Exception {
+        int failureCount = app.run(input("add n\\Amy Bee p\\85355255", "", "add n\\Bob Choo p\\22222222"), output);
+
+        assertEquals(0, failureCount);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(2, outputLines().length);
+    }
+
+    @Test
+    public void run_failingCommand_reportsErrorAndContinues() throws Exception {
+        int failureCount = app.run(input("unknowncommand", "add n\\Amy Bee p\\85355255"), output);
+
+        assertEquals(1, failureCount);
+        assertEquals(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, MESSAGE_UNKNOWN_COMMAND), outputLines()[0]);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        int failureCount = app.run(input(ExitCommand.COMMAND_WORD, "add n\\Amy Bee p\\85355255"), output);
+
+        assertEquals(0, failureCount);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    private static BufferedReader input(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    private String[] outputLines() {
+        return outputBytes.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+    }
+}
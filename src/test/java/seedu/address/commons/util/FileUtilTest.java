@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,50 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void getChecksum_crc32cOfContent() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        Files.writeString(file, "123456789");
+        // The check value of CRC-32C
+        assertEquals(0xE3069283L, FileUtil.getChecksum(file));
+
+        Files.writeString(file, "123456780");
+        assertNotEquals(0xE3069283L, FileUtil.getChecksum(file));
+    }
+
+    @Test
+    public void writeToFile_existingFile_replacesContentAndKeepsBackup() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals("old", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+        assertFalse(Files.exists(testFolder.resolve("data.txt.tmp")));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_leavesFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("data.txt.tmp")));
+    }
+
+    @Test
+    public void writeToFile_backupReplaced_keepsOnlyPreviousContent() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+        FileUtil.writeToFile(file, "third");
+
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
 }
@@ -280,4 +280,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.startsWithIgnoreCase("h", "H")); // single letter (edge case)
         assertTrue(StringUtil.startsWithIgnoreCase("a", "A")); // single letter (edge case)
     }
+
+    //---------------- Tests for hasLengthAndCharacters --------------------------------------
+
+    @Test
+    public void hasLengthAndCharacters() {
+        assertThrows(NullPointerException.class, () -> StringUtil.hasLengthAndCharacters(null, 0, 1,
+                StringUtil::isAsciiDigit));
+
+        // length out of range
+        assertFalse(StringUtil.hasLengthAndCharacters("12", 3, 4, StringUtil::isAsciiDigit));
+        assertFalse(StringUtil.hasLengthAndCharacters("12345", 3, 4, StringUtil::isAsciiDigit));
+
+        // character not allowed
+        assertFalse(StringUtil.hasLengthAndCharacters("12a", 3, 4, StringUtil::isAsciiDigit));
+        assertFalse(StringUtil.hasLengthAndCharacters("１２３", 3, 4, StringUtil::isAsciiDigit)); // full-width digits
+        assertFalse(StringUtil.hasLengthAndCharacters("ab_", 3, 4, StringUtil::isAsciiAlphanumeric));
+
+        // boundary lengths with allowed characters
+        assertTrue(StringUtil.hasLengthAndCharacters("", 0, 4, StringUtil::isAsciiDigit));
+        assertTrue(StringUtil.hasLengthAndCharacters("123", 3, 4, StringUtil::isAsciiDigit));
+        assertTrue(StringUtil.hasLengthAndCharacters("aZ09", 3, 4, StringUtil::isAsciiAlphanumeric));
+    }
 }
@@ -1,11 +1,17 @@
 package seedu.address.logic.autocomplete;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.model.person.Person;
 
 public class AutocompletorTest {
     @Test
@@ -51,4 +57,67 @@ public class AutocompletorTest {
 
         assertEquals("", hint);
     }
+
+    @Test
+    public void getHint_partialPrefix_returnsPrefix() {
+        Autocompletor completor = new Autocompletor();
+
+        assertEquals("edit 1 p\\", completor.getHint("edit 1 p"));
+        assertEquals("edit 1 pm\\", completor.getHint("edit 1 pm"));
+        assertEquals("list -a", completor.getHint("list -"));
+    }
+
+    @Test
+    public void getHint_partialArgumentValue_returnsValueFromPersons() {
+        Autocompletor completor = new Autocompletor(getTypicalAddressBook().getPersonList());
+
+        assertEquals("edit 3 n\\Alice Pauline", completor.getHint("edit 3 n\\Al"));
+        assertEquals("find t\\friends", completor.getHint("find t\\fri"));
+        assertEquals("add n\\Bob p\\999 l\\benson_m", completor.getHint("add n\\Bob p\\999 l\\ben"));
+        assertEquals("edit 1 r\\owesMoney", completor.getHint("edit 1 r\\owes"));
+    }
+
+    @Test
+    public void getHint_findKeywords_completesLastKeyword() {
+        Autocompletor completor = new Autocompletor(getTypicalAddressBook().getPersonList());
+
+        assertEquals("find n\\alice Pauline", completor.getHint("find n\\alice pau"));
+    }
+
+    @Test
+    public void getHint_argumentValueWithoutCompletion_returnsEmpty() {
+        Autocompletor completor = new Autocompletor(getTypicalAddressBook().getPersonList());
+
+        // no matching name
+        assertEquals("", completor.getHint("edit 3 n\\Zed"));
+
+        // phone numbers are not completed
+        assertEquals("", completor.getHint("add n\\Bob p\\9"));
+
+        // renamed tags are new names
+        assertEquals("", completor.getHint("tag -r t\\friends r\\fr"));
+
+        // unknown command
+        assertEquals("", completor.getHint("unknown n\\Al"));
+    }
+
+    @Test
+    public void getHint_personsChange_followsChanges() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE);
+        Autocompletor completor = new Autocompletor(persons);
+
+        persons.add(BOB);
+        assertEquals("edit 1 n\\Bob Choo", completor.getHint("edit 1 n\\B"));
+
+        persons.remove(BOB);
+        assertEquals("", completor.getHint("edit 1 n\\B"));
+    }
+
+    @Test
+    public void getHint_helpCommand_completesCommandWord() {
+        CommandRegistry.register("add", "null", "null");
+        Autocompletor completor = new Autocompletor();
+
+        assertEquals("help add", completor.getHint("help a"));
+    }
 }
@@ -0,0 +1,108 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandRegistry;
+
+public class BackgroundAutocompletorTest {
+
+    private final List<String> hints = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void requestHint_publishesHint() throws Exception {
+        CommandRegistry.register("add", "null", "null");
+        BackgroundAutocompletor completor = new BackgroundAutocompletor(new Autocompletor(), 0, Runnable::run);
+
+        awaitHint(completor, "ad");
+
+        assertEquals(List.of("add"), hints);
+    }
+
+    @Test
+    public void requestHint_inputChangesWhileComputing_discardsOutdatedHint() throws Exception {
+        CountDownLatch firstHintStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstHint = new CountDownLatch(1);
+        Autocompletor slowCompletor = new Autocompletor() {
+            @Override
+            public String getHint(String input) {
+                if (input.equals("first")) {
+                    firstHintStarted.countDown();
+                    awaitUninterruptibly(releaseFirstHint);
+                }
+                return input + " hint";
+            }
+        };
+        BackgroundAutocompletor completor = new BackgroundAutocompletor(slowCompletor, 0, Runnable::run);
+
+        completor.requestHint("first", hints::add);
+        awaitUninterruptibly(firstHintStarted);
+        CountDownLatch secondHintPublished = new CountDownLatch(1);
+        completor.requestHint("second", hint -> {
+            hints.add(hint);
+            secondHintPublished.countDown();
+        });
+        releaseFirstHint.countDown();
+        awaitUninterruptibly(secondHintPublished);
+
+        assertEquals(List.of("second hint"), hints);
+    }
+
+    @Test
+    public void requestHint_burstOfInput_computesOnlyLatestHint() throws Exception {
+        AtomicInteger computeCount = new AtomicInteger();
+        Autocompletor countingCompletor = new Autocompletor() {
+            @Override
+            public String getHint(String input) {
+                computeCount.incrementAndGet();
+                return input + " hint";
+            }
+        };
+        BackgroundAutocompletor completor = new BackgroundAutocompletor(countingCompletor, 200, Runnable::run);
+
+        completor.requestHint("a", hints::add);
+        completor.requestHint("ab", hints::add);
+        awaitHint(completor, "abc");
+
+        assertEquals(List.of("abc hint"), hints);
+        assertEquals(1, computeCount.get());
+    }
+
+    @Test
+    public void cancel_pendingRequest_discardsHint() throws Exception {
+        CommandRegistry.register("add", "null", "null");
+        BackgroundAutocompletor completor = new BackgroundAutocompletor(new Autocompletor(), 200, Runnable::run);
+
+        completor.requestHint("a", hints::add);
+        completor.cancel();
+        awaitHint(completor, "ad");
+
+        assertEquals(List.of("add"), hints);
+    }
+
+    private void awaitHint(BackgroundAutocompletor completor, String input) {
+        CountDownLatch published = new CountDownLatch(1);
+        completor.requestHint(input, hint -> {
+            hints.add(hint);
+            published.countDown();
+        });
+        awaitUninterruptibly(published);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new AssertionError("Timed out waiting for hint");
+            }
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonVocabularyTest {
+
+    @Test
+    public void constructor_existingPersons_addsTheirDetails() {
+        PersonVocabulary vocabulary = new PersonVocabulary(FXCollections.observableArrayList(ALICE, BENSON));
+
+        assertEquals(Optional.of("Benson Meier"), vocabulary.getNames().complete("ben"));
+        assertEquals(Optional.of("Meier"), vocabulary.getNameWords().complete("me"));
+        assertEquals(Optional.of("owesMoney"), vocabulary.getTags().complete("o"));
+        assertEquals(Optional.of("alice_p"), vocabulary.getTelegramHandles().complete("a"));
+        assertEquals(Optional.of("benson-m"), vocabulary.getGithubHandles().complete("b"));
+    }
+
+    @Test
+    public void listChanges_updateVocabularies() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON);
+        PersonVocabulary vocabulary = new PersonVocabulary(persons);
+
+        // Tags used by more persons complete first
+        persons.add(new PersonBuilder(DANIEL).withTags("family").build());
+        persons.add(new PersonBuilder().withName("Fay Ng").withTags("family").build());
+        assertEquals(Optional.of("family"), vocabulary.getTags().complete("f"));
+
+        // Replacing a person removes the old details
+        persons.set(0, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        assertEquals(Optional.of("Alicia Pauline"), vocabulary.getNames().complete("ali"));
+
+        persons.clear();
+        assertEquals(Optional.empty(), vocabulary.getNames().complete(""));
+        assertEquals(Optional.empty(), vocabulary.getTags().complete(""));
+    }
+}
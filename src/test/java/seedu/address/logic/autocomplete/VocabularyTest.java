@@ -0,0 +1,47 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class VocabularyTest {
+
+    @Test
+    public void complete_ignoresCaseOfPrefix_returnsWordAsAdded() {
+        Vocabulary vocabulary = new Vocabulary();
+        vocabulary.add("CS2103T");
+
+        assertEquals(Optional.of("CS2103T"), vocabulary.complete("cs21"));
+        assertEquals(Optional.of("CS2103T"), vocabulary.complete("CS2103T"));
+        assertEquals(Optional.empty(), vocabulary.complete("cs3"));
+    }
+
+    @Test
+    public void complete_wordsDifferingInCase_keptApart() {
+        Vocabulary vocabulary = new Vocabulary();
+        vocabulary.add("friends");
+        vocabulary.add("Friends");
+        vocabulary.add("Friends");
+
+        assertEquals(Optional.of("Friends"), vocabulary.complete("f"));
+
+        vocabulary.remove("Friends");
+        vocabulary.remove("Friends");
+        assertEquals(Optional.of("friends"), vocabulary.complete("f"));
+    }
+
+    @Test
+    public void complete_wordsWithDifferentFrequencies_returnsMostFrequent() {
+        Vocabulary vocabulary = new Vocabulary();
+        vocabulary.add("family");
+        vocabulary.add("friends");
+        vocabulary.add("friends");
+
+        assertEquals(Optional.of("friends"), vocabulary.complete("f"));
+
+        vocabulary.remove("friends");
+        assertEquals(Optional.of("family"), vocabulary.complete("f"));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.autocomplete.trie;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,6 +42,84 @@ public class TrieTest {
         assertEquals(0, din.size());
     }
 
+    @Test
+    public void trie_keysSharingPartOfEdge_returnsPrefixes() {
+        Trie trie = new Trie();
+        trie.put("contradict");
+        trie.put("con");
+        trie.put("contra");
+
+        assertEquals(List.of("con", "contra", "contradict"), trie.keysWithPrefix("co"));
+        assertEquals(List.of("contra", "contradict"), trie.keysWithPrefix("cont"));
+        assertEquals(List.of("contradict"), trie.keysWithPrefix("contrad"));
+        assertEquals(List.of(), trie.keysWithPrefix("contrast"));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void trie_nonAsciiKeys_returnsPrefixes() {
+        Trie trie = new Trie();
+        trie.put("zoë");
+        trie.put("zoé");
+        trie.put("李小龙");
+        trie.put("李娜");
+
+        assertEquals(List.of("zoé", "zoë"), trie.keysWithPrefix("zo"));
+        assertEquals(List.of("李娜", "李小龙"), trie.keysWithPrefix("李"));
+    }
+
+    @Test
+    public void trie_keysWithDifferentFrequencies_returnsMostFrequentFirst() {
+        Trie trie = new Trie();
+        trie.put("friends");
+        trie.put("family", 3);
+        trie.put("foes");
+        trie.put("friends");
+
+        assertEquals(List.of("family", "friends", "foes"), trie.keysWithPrefix("f"));
+        assertEquals(2, trie.frequencyOf("friends"));
+        assertEquals(0, trie.frequencyOf("fri"));
+    }
+
+    @Test
+    public void trie_limitedLookup_returnsTopKeys() {
+        Trie trie = new Trie();
+        for (int i = 0; i < 100; i++) {
+            trie.put("key" + i);
+        }
+        trie.put("key42", 5);
+
+        assertEquals(List.of("key42"), trie.keysWithPrefix("key", 1));
+        assertEquals(List.of("key42", "key0", "key1"), trie.keysWithPrefix("k", 3));
+        assertEquals(List.of(), trie.keysWithPrefix("key", 0));
+    }
+
+    @Test
+    public void trie_removeKeys_updatesLookups() {
+        Trie trie = new Trie();
+        trie.put("con");
+        trie.put("contra", 2);
+        trie.put("contradict");
+
+        assertTrue(trie.remove("contra"));
+        assertEquals(List.of("con", "contra", "contradict"), trie.keysWithPrefix("con"));
+        assertTrue(trie.remove("contra"));
+        assertEquals(List.of("con", "contradict"), trie.keysWithPrefix("con"));
+        assertFalse(trie.remove("contra"));
+        assertFalse(trie.remove("cont"));
+        assertTrue(trie.remove("con"));
+        assertEquals(List.of("contradict"), trie.keysWithPrefix(""));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void trie_invalidLookup_throwsException() {
+        Trie trie = new Trie();
+
+        assertThrows(IllegalArgumentException.class, () -> trie.keysWithPrefix("a", -1));
+        assertThrows(IllegalArgumentException.class, () -> trie.put("a", 0));
+    }
+
     @Test
     public void trie_insertingNull_throwsException() {
         Trie trie = new Trie();
@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunCommandTest {
+
+    private static final String ADD_AMY = "add n\\Amy Bee p\\85355255";
+    private static final String ADD_BOB = "add n\\Bob Choo p\\22222222";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+
+    @BeforeAll
+    public static void initializeRegistry() {
+        CommandRegistry.initialize();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+    }
+
+    @Test
+    public void execute_validScript_runsEveryCommand() throws Exception {
+        Path script = writeScript("# onboarding", ADD_AMY, "", "   ", ADD_BOB, "list -a");
+        int originalSize = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new RunCommand(script).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, script), result.getFeedbackToUser());
+        assertEquals(originalSize + 2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_failingLine_rollsBackWholeScript() throws Exception {
+        Path script = writeScript(ADD_AMY, "unknowncommand", ADD_AMY);
+        AddressBook original = new AddressBook(model.getAddressBook());
+
+        CommandException e = assertThrows(CommandException.class, () -> new RunCommand(script).execute(model));
+
+        assertTrue(e.getMessage().startsWith(String.format(RunCommand.MESSAGE_SCRIPT_FAILED, 2, script, "")));
+        assertTrue(e.getMessage().contains(String.format(RunCommand.MESSAGE_LINE_FAILED, 2, "")));
+        assertTrue(e.getMessage().contains(String.format(RunCommand.MESSAGE_LINE_FAILED, 3, "")));
+        assertEquals(original, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_nestedRunOrConfirmation_rejected() throws Exception {
+        Path script = writeScript("run other.txt", "clear");
+
+        CommandException e = assertThrows(CommandException.class, () -> new RunCommand(script).execute(model));
+
+        assertTrue(e.getMessage().contains(
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 1, RunCommand.MESSAGE_NESTED_RUN)));
+        assertTrue(e.getMessage().contains(
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 2, RunCommand.MESSAGE_CONFIRMATION_REQUIRED)));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_manyFailingLines_reportsFirstFew() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < RunCommand.MAX_LINES_REPORTED + 5; i++) {
+            lines.add("unknowncommand");
+        }
+        Path script = writeScript(lines.toArray(new String[0]));
+
+        CommandException e = assertThrows(CommandException.class, () -> new RunCommand(script).execute(model));
+
+        assertTrue(e.getMessage().endsWith(String.format(RunCommand.MESSAGE_MORE_LINES_FAILED, 5)));
+        assertFalse(e.getMessage().contains(
+                String.format(RunCommand.MESSAGE_LINE_FAILED, RunCommand.MAX_LINES_REPORTED + 1, "")));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path script = temporaryFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, () -> new RunCommand(script).execute(model));
+    }
+
+    @Test
+    public void requiresWrite_returnsTrue() {
+        assertTrue(new RunCommand(Path.of("script.txt")).requiresWrite());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("script.txt"));
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(Path.of("script.txt"))));
+        assertFalse(runCommand.equals(null));
+        assertFalse(runCommand.equals(new ExitCommand()));
+        assertNotEquals(runCommand, new RunCommand(Path.of("other.txt")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunCommand runCommand = new RunCommand(Path.of("script.txt"));
+        String expected = RunCommand.class.getCanonicalName() + "{filePath=" + Path.of("script.txt") + "}";
+        assertEquals(expected, runCommand.toString());
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
@@ -63,6 +63,22 @@ public class TagCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_renameAfterNameCaseEdit_keepsEditedName() throws Exception {
+        Person first = model.getSortedAndFilteredPersonList().get(0);
+        Person tagged = new PersonBuilder(first).withTags("friends").build();
+        model.setPerson(first, tagged);
+        // Equal to the tagged person, since names are compared ignoring case
+        Person renamed = new PersonBuilder(tagged).withName(first.getName().fullName.toUpperCase()).build();
+        model.setPerson(tagged, renamed);
+
+        new TagCommand(Set.of(targetTag), Set.of(renamedTag), TagOperation.RENAME).execute(model);
+
+        Person result = model.getAddressBook().getPersonList().get(0);
+        assertEquals(renamed.getName().fullName, result.getName().fullName);
+        assertEquals(Set.of(renamedTag), result.getTags());
+    }
+
     @Test
     public void execute_deleteTagForMultiplePersons_success() {
         // Give multiple people the target tag
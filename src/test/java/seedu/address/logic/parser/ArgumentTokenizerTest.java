@@ -136,6 +136,29 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_matchesLongerPrefix() {
+        Prefix pSlashM = new Prefix("p/m");
+        String argsString = "preamble p/m mValue p/ pValue p/mmore";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashM);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "pValue");
+        assertArgumentPresent(argMultimap, pSlashM, "mValue", "more");
+
+        // Same prefixes given in a different order
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlashM, pSlash);
+        assertArgumentPresent(argMultimap, pSlash, "pValue");
+        assertArgumentPresent(argMultimap, pSlashM, "mValue", "more");
+    }
+
+    @Test
+    public void tokenize_prefixAtEndOfString_emptyValue() {
+        String argsString = "preamble p/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
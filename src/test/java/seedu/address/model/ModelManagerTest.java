@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -17,12 +18,15 @@ import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -115,6 +119,45 @@ public class ModelManagerTest {
         );
     }
 
+    @Test
+    public void updateFilteredPersonList_keywordPredicateThenModify_tracksChanges() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getSortedAndFilteredPersonList());
+
+        modelManager.addPerson(DANIEL);
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        modelManager.setPerson(CARL, editedCarl);
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(DANIEL, editedCarl), modelManager.getSortedAndFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonsWithTag_filteredList_returnsOnlyShownPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        assertEquals(Set.of(ALICE, BENSON), modelManager.getFilteredPersonsWithTag(new Tag("friends")));
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Set.of(BENSON), modelManager.getFilteredPersonsWithTag(new Tag("friends")));
+    }
+
+    @Test
+    public void replacePersons_filteredList_updatesShownPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Pauline").build();
+
+        modelManager.replacePersons(Map.of(ALICE, editedAlice, BENSON, editedBenson));
+
+        assertEquals(Arrays.asList(editedAlice), modelManager.getSortedAndFilteredPersonList());
+        assertTrue(modelManager.hasPerson(editedBenson));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -323,6 +366,36 @@ public class ModelManagerTest {
         assertEquals(unpinnedElle.getName(), sortedList.get(3).getName());
     }
 
+    @Test
+    public void resetSortOrder_afterEditAndDelete_keepsInsertionOrder() {
+        ModelManager testModel = new ModelManager();
+        testModel.addPerson(ELLE);
+        testModel.addPerson(BENSON);
+        testModel.addPerson(CARL);
+        testModel.addPerson(FIONA);
+
+        Person editedElle = new PersonBuilder(ELLE).withPhone("99999999").build();
+        testModel.setPerson(ELLE, editedElle);
+        testModel.deletePerson(BENSON);
+        testModel.resetSortOrder();
+
+        assertEquals(Arrays.asList(editedElle, CARL, FIONA), testModel.getSortedAndFilteredPersonList());
+    }
+
+    @Test
+    public void applyRecentSort_afterEdit_keepsReverseInsertionOrder() {
+        ModelManager testModel = new ModelManager();
+        testModel.addPerson(ELLE);
+        testModel.addPerson(BENSON);
+        testModel.addPerson(CARL);
+        testModel.applyRecentSort();
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        testModel.setPerson(BENSON, editedBenson);
+
+        assertEquals(Arrays.asList(CARL, editedBenson, ELLE), testModel.getSortedAndFilteredPersonList());
+    }
+
     @SuppressWarnings("unchecked")
     private Comparator<Person> getWithPinPriorityComparator(Comparator<Person> baseComparator) {
         try {
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -114,4 +115,10 @@ public class EmailTest {
         Email email = new Email();
         assert(Objects.equals(email.hashCode(), 0));
     }
+
+    @Test
+    public void ofValidated_validValue_equalsConstructed() {
+        assertEquals(new Email("alice@example.com"), Email.ofValidated("alice@example.com"));
+        assertEquals(new Email(), Email.ofValidated(null));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -49,6 +50,14 @@ public class GithubTest {
 
     }
 
+    @Test
+    public void isValidGithub_sameAsValidationRegex() {
+        for (String test : new String[] {
+                "", "a", "-ab", "ab-", "a--b", "a-b-c", "a".repeat(39), "a".repeat(40), "ab\n", "ab_c"}) {
+            assertEquals(test.matches(Github.VALIDATION_REGEX), Github.isValidGithub(test), test);
+        }
+    }
+
     @Test
     public void isEmpty() {
         Github github = new Github();
@@ -90,4 +99,10 @@ public class GithubTest {
         Github github = new Github();
         assert(Objects.equals(github.hashCode(), 0));
     }
+
+    @Test
+    public void ofValidated_validValue_equalsConstructed() {
+        assertEquals(new Github("alice-pauline"), Github.ofValidated("alice-pauline"));
+        assertEquals(new Github(), Github.ofValidated(null));
+    }
 }
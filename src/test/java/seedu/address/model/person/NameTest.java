@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -59,5 +60,27 @@ public class NameTest {
 
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
+
+        // different case -> returns true
+        assertTrue(name.equals(new Name("VALID name")));
+    }
+
+    @Test
+    public void hashCode_differentCase_consistentWithEquals() {
+        Name name = new Name("Valid Name");
+        assertEquals(name.hashCode(), new Name("vALID nAME").hashCode());
+        assertEquals(name.getNormalizedName(), new Name("VALID NAME").getNormalizedName());
+    }
+
+    @Test
+    public void compareTo_ignoresCase() {
+        assertTrue(new Name("alice").compareTo(new Name("Bob")) < 0);
+        assertTrue(new Name("BOB").compareTo(new Name("alice")) > 0);
+        assertEquals(0, new Name("Alice").compareTo(new Name("aLICE")));
+    }
+
+    @Test
+    public void ofValidated_validValue_equalsConstructed() {
+        assertEquals(new Name("Alice Pauline"), Name.ofValidated("Alice Pauline"));
     }
 }
@@ -0,0 +1,147 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void findByNameKeywords_wordPrefixesIgnoringCase_returnsMatchingPersons() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+
+        assertEquals(Set.of(BENSON, DANIEL), index.findByNameKeywords(List.of("MEI")));
+        assertEquals(Set.of(ALICE, CARL), index.findByNameKeywords(Arrays.asList("pauline", "ca")));
+        assertEquals(Set.of(), index.findByNameKeywords(List.of("auline")));
+        assertEquals(Set.of(), index.findByNameKeywords(Collections.emptyList()));
+    }
+
+    @Test
+    public void findByNameKeywords_turkishDefaultLocale_ignoresCaseOfDottedI() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // Lowercasing "I" in Turkish gives a dotless i
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            Person ingrid = new PersonBuilder().withName("ingrid").build();
+            index.add(ingrid);
+            index.add(new PersonBuilder().withName("IVAN").build());
+
+            assertEquals(Set.of(ingrid), index.findByNameKeywords(List.of("INGRID")));
+            assertEquals(1, index.findByNameKeywords(List.of("ivan")).size());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void findByTagKeywords_wordPrefixesIgnoringCase_returnsMatchingPersons() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(Set.of(ALICE, BENSON), index.findByTagKeywords(List.of("FRIEND")));
+        assertEquals(Set.of(BENSON), index.findByTagKeywords(List.of("owes")));
+        assertEquals(Set.of(), index.findByTagKeywords(List.of("Meier")));
+    }
+
+    @Test
+    public void findByTag_exactTag_returnsPersonsWithTag() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Set.of(ALICE, BENSON), index.findByTag(new Tag("friends")));
+        assertEquals(Set.of(BENSON), index.findByTag(new Tag("owesMoney")));
+        assertEquals(Set.of(), index.findByTag(new Tag("friend")));
+
+        index.remove(BENSON);
+        assertEquals(Set.of(ALICE), index.findByTag(new Tag("friends")));
+        assertEquals(Set.of(), index.findByTag(new Tag("owesMoney")));
+    }
+
+    @Test
+    public void remove_personWithSharedWords_keepsOtherPersons() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        assertTrue(index.remove(BENSON));
+
+        assertEquals(Set.of(DANIEL), index.findByNameKeywords(List.of("Meier")));
+        assertEquals(Set.of(), index.findByNameKeywords(List.of("Benson")));
+    }
+
+    @Test
+    public void remove_equalPersonWithNameInOtherCase_keepsIndexedPerson() {
+        Person lowerCaseBenson = new PersonBuilder(BENSON).withName("benson meier").build();
+        index.add(BENSON);
+        index.add(lowerCaseBenson);
+        assertTrue(index.remove(lowerCaseBenson));
+        assertFalse(index.remove(new PersonBuilder(BENSON).build()));
+
+        Person found = index.findByNameKeywords(List.of("Benson")).iterator().next();
+        assertSame(BENSON, found);
+        assertSame(BENSON, index.findByTag(new Tag("friends")).iterator().next());
+    }
+
+    @Test
+    public void findByKeywords_sameResultsAsPredicates() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE);
+        index.setPersons(persons);
+        for (List<String> keywords : List.of(List.of("Me"), List.of("k", "el"), List.of("FRIENDS"), List.of("x"))) {
+            assertMatchesPredicate(new NameContainsKeywordsPredicate(keywords), persons);
+            assertMatchesPredicate(new TagContainsKeywordsPredicate(keywords), persons);
+        }
+    }
+
+    @Test
+    public void membershipPredicate_indexChanges_testsChangedPersonsWithoutLookingUpAgain() {
+        index.add(ALICE);
+        index.add(CARL);
+        NameContainsKeywordsPredicate carlPredicate = new NameContainsKeywordsPredicate(List.of("Carl"));
+        int[] lookupCount = new int[1];
+        Predicate<Person> predicate = index.membershipPredicate(new SearchIndexPredicate() {
+            @Override
+            public Set<Person> findMatches(PersonSearchIndex searchIndex) {
+                lookupCount[0]++;
+                return carlPredicate.findMatches(searchIndex);
+            }
+
+            @Override
+            public boolean test(Person person) {
+                return carlPredicate.test(person);
+            }
+        });
+        assertTrue(predicate.test(CARL));
+        assertFalse(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Carlsen").build();
+        Person editedCarl = new PersonBuilder(CARL).withName("Karl Kurz").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+        index.remove(CARL);
+        index.add(editedCarl);
+        assertTrue(predicate.test(editedAlice));
+        assertFalse(predicate.test(editedCarl));
+        assertEquals(1, lookupCount[0]);
+    }
+
+    private void assertMatchesPredicate(SearchIndexPredicate predicate, List<Person> persons) {
+        for (Person person : persons) {
+            assertEquals(predicate.test(person), predicate.findMatches(index).contains(person));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GITHUB_BOB;
@@ -27,6 +28,22 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void constructor_equalTags_sharesTagInstances() {
+        Person first = new PersonBuilder().withTags("colleagues").build();
+        Person second = new PersonBuilder(BOB).withTags("colleagues").build();
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+    }
+
+    @Test
+    public void constructor_absentDetails_sharedBetweenPersons() {
+        Person first = new PersonBuilder().withName("Carl Kurz").build();
+        Person second = new PersonBuilder().withName("Daniel Meier").build();
+        assertSame(first.getEmail(), second.getEmail());
+        assertSame(first.getTelegram(), second.getTelegram());
+        assertSame(first.getGithub(), second.getGithub());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
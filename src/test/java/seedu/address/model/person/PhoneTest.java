@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -39,6 +40,15 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("12429384203312367")); // long phone number, exactly 17 numbers
     }
 
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        for (String test : new String[] {
+                "", "12", "123", "12345678901234567", "123456789012345678", "١٢٣٤", "１２３", "123\n", "12 3",
+                "+6512345678"}) {
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+        }
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -58,4 +68,9 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
     }
+
+    @Test
+    public void ofValidated_validValue_equalsConstructed() {
+        assertEquals(new Phone("94351253"), Phone.ofValidated("94351253"));
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Instant;
@@ -28,6 +29,17 @@ public class PinStatusTest {
         assertEquals(Optional.of(FIXED_INSTANT), pinStatus.getPinnedAt());
     }
 
+    @Test
+    public void of_nullInstant_returnsSharedUnpinnedStatus() {
+        assertSame(PinStatus.UNPINNED, PinStatus.of(null));
+        assertFalse(PinStatus.UNPINNED.isPinned());
+    }
+
+    @Test
+    public void of_instant_pinnedCorrectly() {
+        assertEquals(new PinStatus(FIXED_INSTANT), PinStatus.of(FIXED_INSTANT));
+    }
+
     @Test
     public void constructor_withNullInstant_nothingPinned() {
         PinStatus pinStatus = new PinStatus(null);
@@ -145,4 +157,26 @@ public class PinStatusTest {
         PinStatus pinStatus2 = new PinStatus(instant2);
         assertNotEquals(pinStatus1.hashCode(), pinStatus2.hashCode());
     }
+
+    @Test
+    public void getSortKey_unpinned_returnsUnpinnedSortKey() {
+        assertEquals(PinStatus.UNPINNED_SORT_KEY, new PinStatus().getSortKey());
+        assertEquals(PinStatus.UNPINNED_SORT_KEY, new PinStatus(null).getSortKey());
+    }
+
+    @Test
+    public void getSortKey_pinned_ordersBeforeUnpinnedAndMoreRecentFirst() {
+        PinStatus older = new PinStatus(FIXED_INSTANT);
+        PinStatus newer = new PinStatus(FIXED_INSTANT.plusNanos(1));
+        assertTrue(older.getSortKey() < PinStatus.UNPINNED_SORT_KEY);
+        assertTrue(newer.getSortKey() < older.getSortKey());
+    }
+
+    @Test
+    public void getSortKey_instantsBeyondNanosecondRange_stillOrderBeforeUnpinned() {
+        PinStatus farFuture = new PinStatus(Instant.MAX);
+        PinStatus farPast = new PinStatus(Instant.MIN);
+        assertTrue(farFuture.getSortKey() < farPast.getSortKey());
+        assertTrue(farPast.getSortKey() < PinStatus.UNPINNED_SORT_KEY);
+    }
 }
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class TagSetTest {
+
+    @Test
+    public void of_noTags_returnsSharedEmptySet() {
+        assertSame(TagSet.EMPTY, TagSet.of(List.of()));
+        assertSame(TagSet.EMPTY, TagSet.of(new HashSet<>()));
+        assertTrue(TagSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void of_tagSet_returnsSameSet() {
+        TagSet tags = TagSet.of(List.of(new Tag("friends")));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void of_duplicateTags_keepsDistinctCanonicalTags() {
+        TagSet tags = TagSet.of(List.of(new Tag("friends"), new Tag("colleagues"), new Tag("friends")));
+        assertEquals(2, tags.size());
+        for (Tag tag : tags) {
+            assertSame(Tag.of(tag.tagName), tag);
+        }
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(List.of(new Tag("friends"), new Tag("colleagues")));
+        assertTrue(tags.contains(new Tag("friends")));
+        assertTrue(tags.contains(Tag.of("colleagues")));
+        assertFalse(tags.contains(new Tag("Friends")));
+        assertFalse(tags.contains("friends"));
+        assertFalse(tags.contains(null));
+    }
+
+    @Test
+    public void iterator_sameOrderAsHashSet() {
+        List<Tag> tagList = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tagList.add(new Tag("tag" + i));
+        }
+        assertEquals(new ArrayList<>(new HashSet<>(tagList)), new ArrayList<>(TagSet.of(tagList)));
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> hashSet = Set.of(new Tag("friends"), new Tag("colleagues"));
+        TagSet tags = TagSet.of(hashSet);
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertFalse(tags.equals(Set.of(new Tag("friends"))));
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(List.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("colleagues")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
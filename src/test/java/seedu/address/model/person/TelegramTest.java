@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -49,6 +50,15 @@ public class TelegramTest {
         assertTrue(Telegram.isValidTelegram("test123456789012345678901234567")); // exactly 32 chars
     }
 
+    @Test
+    public void isValidTelegram_sameAsValidationRegex() {
+        for (String test : new String[] {
+                "", "abcd", "abcde", "a_b_c", "user-name", "ÄBCDEF", "abcde\n", "a".repeat(32), "a".repeat(33),
+                "abc de"}) {
+            assertEquals(test.matches(Telegram.VALIDATION_REGEX), Telegram.isValidTelegram(test), test);
+        }
+    }
+
     @Test
     public void isEmpty() {
         Telegram telegram = new Telegram();
@@ -90,4 +100,10 @@ public class TelegramTest {
         Telegram telegram = new Telegram();
         assert(Objects.equals(telegram.hashCode(), 0));
     }
+
+    @Test
+    public void ofValidated_validValue_equalsConstructed() {
+        assertEquals(new Telegram("alice_pauline"), Telegram.ofValidated("alice_pauline"));
+        assertEquals(new Telegram(), Telegram.ofValidated(null));
+    }
 }
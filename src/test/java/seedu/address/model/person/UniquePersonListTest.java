@@ -6,14 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -46,6 +52,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentNameCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -108,6 +128,66 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_targetWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void setPerson_afterRemovals_replacesPersonInPlace() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.remove(CARL);
+        uniquePersonList.setPerson(DANIEL, BOB);
+        assertEquals(Arrays.asList(BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replacePersons_validEdits_replacesPersonsInPlaceInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        long sequenceNumber = uniquePersonList.getSequenceNumber(DANIEL);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Integer> changeCount = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount.add(1));
+
+        uniquePersonList.replacePersons(Map.of(ALICE, editedAlice, DANIEL, BOB));
+
+        assertEquals(Arrays.asList(editedAlice, BENSON, CARL, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.size());
+        assertEquals(sequenceNumber, uniquePersonList.getSequenceNumber(BOB));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(DANIEL));
+    }
+
+    @Test
+    public void replacePersons_swappedIdentities_success() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person bobAsAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person aliceAsBob = new PersonBuilder(BOB).withTags().build();
+        uniquePersonList.replacePersons(Map.of(ALICE, aliceAsBob, BOB, bobAsAlice));
+        assertEquals(Arrays.asList(aliceAsBob, bobAsAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replacePersons_targetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replacePersons(
+                Map.of(ALICE, ALICE, BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replacePersons_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replacePersons(Map.of(ALICE, CARL)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replacePersons(
+                Map.of(ALICE, BOB, BENSON, new PersonBuilder(BOB).withTags().build())));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -126,6 +206,21 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_afterEarlierRemoval_removesCorrectPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.remove(CARL);
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -161,6 +256,41 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findDuplicates_uniquePersons_returnsEmptyMap() {
+        assertTrue(UniquePersonList.findDuplicates(Arrays.asList(ALICE, BENSON, CARL)).isEmpty());
+    }
+
+    @Test
+    public void findDuplicates_duplicatePersons_returnsEveryDuplicateWithFirstPosition() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> persons = Arrays.asList(ALICE, BENSON, editedAlice, CARL, BENSON, ALICE);
+        assertEquals(Map.of(2, 0, 4, 1, 5, 0), UniquePersonList.findDuplicates(persons));
+    }
+
+    @Test
+    public void getSequenceNumber_personNotInList_returnsMinusOne() {
+        assertEquals(-1, uniquePersonList.getSequenceNumber(ALICE));
+    }
+
+    @Test
+    public void getSequenceNumber_followsInsertionOrder() {
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.getSequenceNumber(BENSON) < uniquePersonList.getSequenceNumber(ALICE));
+    }
+
+    @Test
+    public void getSequenceNumber_editedPerson_keepsSequenceNumber() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        long sequenceNumber = uniquePersonList.getSequenceNumber(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(sequenceNumber, uniquePersonList.getSequenceNumber(editedAlice));
+        assertEquals(-1, uniquePersonList.getSequenceNumber(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,67 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class TagRegistryTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int NAME_COUNT = 1000;
+
+    @Test
+    public void intern_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TagRegistry.intern("tag name"));
+    }
+
+    @Test
+    public void intern_tagInUseAfterGarbageCollection_staysCanonical() {
+        Tag canonical = TagRegistry.intern("registryGc");
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            // Registering other tags removes the entries of tags no longer in use
+            TagRegistry.intern("registryGcOther" + i);
+        }
+
+        assertSame(canonical, TagRegistry.intern("registryGc"));
+        assertSame(canonical, TagRegistry.intern(new Tag("registryGc")));
+    }
+
+    @Test
+    public void intern_manyThreads_agreeOnCanonicalTags() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Callable<Tag[]>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < THREAD_COUNT; thread++) {
+                boolean isFromTag = thread % 2 == 0;
+                tasks.add(() -> {
+                    Tag[] tags = new Tag[NAME_COUNT];
+                    for (int i = 0; i < NAME_COUNT; i++) {
+                        String tagName = "registryThreads" + i;
+                        tags[i] = isFromTag ? TagRegistry.intern(new Tag(tagName)) : TagRegistry.intern(tagName);
+                    }
+                    return tags;
+                });
+            }
+
+            List<Future<Tag[]>> results = executor.invokeAll(tasks);
+            Tag[] expected = results.get(0).get();
+            for (Future<Tag[]> result : results) {
+                Tag[] tags = result.get();
+                for (int i = 0; i < NAME_COUNT; i++) {
+                    assertSame(expected[i], tags[i]);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
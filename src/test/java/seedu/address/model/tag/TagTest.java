@@ -1,6 +1,9 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +22,28 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        Tag tag = Tag.of("colleagues");
+        assertSame(tag, Tag.of("colleagues"));
+        assertEquals(new Tag("colleagues"), tag);
+        assertNotSame(tag, Tag.of("Colleagues"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("tag name"));
+    }
+
+    @Test
+    public void intern_equalTags_returnsSameInstance() {
+        Tag canonical = Tag.of("neighbours");
+        Tag equalTag = new Tag("neighbours");
+        assertSame(canonical, equalTag.intern());
+        assertSame(canonical, canonical.intern());
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -43,4 +68,12 @@ public class TagTest {
         assertTrue(Tag.isValidTagName("A".repeat(128))); // boundary case
     }
 
+    @Test
+    public void isValidTagName_sameAsValidationRegex() {
+        for (String test : new String[] {
+                "", "a", "tag1", "A".repeat(128), "A".repeat(129), "tág", "tag\n", "٣", "tag_1", "\u00e9"}) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), test);
+        }
+    }
+
 }
@@ -0,0 +1,118 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SortedFilteredListTest {
+
+    private static final Predicate<String> SHOW_ALL = unused -> true;
+    private static final Predicate<String> NO_DIGIT_SEVEN = s -> !s.contains("7");
+
+    private ObservableList<String> source;
+    private SortedFilteredList<String> view;
+    /** The view as rebuilt by replaying every change that the view reported. */
+    private List<String> replayed;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("pear", "apple", "fig", "banana");
+        view = new SortedFilteredList<>(source, SHOW_ALL, Comparator.naturalOrder());
+        replayed = new ArrayList<>(view);
+        view.addListener((ListChangeListener<String>) this::replay);
+    }
+
+    @Test
+    public void constructor_sortsSource() {
+        assertEquals(List.of("apple", "banana", "fig", "pear"), view);
+    }
+
+    @Test
+    public void sourceChanged_singleElementChanges_keepsViewSortedAndFiltered() {
+        view.setPredicate(s -> s.length() > 3);
+        source.add("cherry");
+        source.add("kiwi");
+        source.add("yam");
+        source.set(source.indexOf("pear"), "date");
+        source.remove("apple");
+
+        assertEquals(List.of("banana", "cherry", "date", "kiwi"), view);
+        assertEquals(view, replayed);
+    }
+
+    @Test
+    public void setComparator_reordersView() {
+        view.setComparator(Comparator.comparing(String::length).thenComparing(Comparator.reverseOrder()));
+
+        assertEquals(List.of("fig", "pear", "apple", "banana"), view);
+        assertEquals(view, replayed);
+    }
+
+    @Test
+    public void setPredicate_filtersView() {
+        view.setPredicate(s -> s.contains("a"));
+        assertEquals(List.of("apple", "banana", "pear"), view);
+
+        view.setPredicate(SHOW_ALL);
+        assertEquals(List.of("apple", "banana", "fig", "pear"), view);
+        assertEquals(view, replayed);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_matchesFilteredAndSortedSource() {
+        Random random = new Random(2103);
+        view.setPredicate(NO_DIGIT_SEVEN);
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(10);
+            String element = "e" + random.nextInt(500) + "-" + i;
+            if (operation < 5 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), element);
+            } else if (operation < 8) {
+                source.remove(random.nextInt(source.size()));
+            } else {
+                source.set(random.nextInt(source.size()), element);
+            }
+        }
+        source.setAll(IntStream.range(0, 300).mapToObj(i -> "bulk" + i).collect(Collectors.toList()));
+        source.add("bulk77x");
+
+        List<String> expected = source.stream().filter(NO_DIGIT_SEVEN).sorted().collect(Collectors.toList());
+        assertEquals(expected, view);
+        assertEquals(view, replayed);
+        for (int i = 0; i < source.size(); i++) {
+            assertEquals(view.indexOf(source.get(i)), view.getViewIndex(i));
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(view.size()));
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> view.add("grape"));
+    }
+
+    private void replay(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            replayed.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        storage = new BinaryAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void getSnapshotFilePath_nextToDataFile() {
+        assertEquals(testFolder.resolve("addressbook.json.snapshot"), storage.getSnapshotFilePath());
+    }
+
+    @Test
+    public void saveAddressBook_writesDataFileAndSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertTrue(Files.exists(storage.getSnapshotFilePath()));
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_upToDateSnapshot_readsSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertReadsSnapshot(addressBook);
+    }
+
+    @Test
+    public void readAddressBook_dataFileEdited_readsDataFileAndWritesSnapshot() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook editedAddressBook = getTypicalAddressBook();
+        editedAddressBook.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(editedAddressBook);
+
+        assertEquals(editedAddressBook, storage.readAddressBook().get());
+        assertReadsSnapshot(editedAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_dataFileEditedKeepingSizeAndModifiedTime_readsDataFile() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        String editedPhone = "95351253";
+        FileTime modified = Files.getLastModifiedTime(filePath);
+        Files.writeString(filePath, Files.readString(filePath).replace(ALICE.getPhone().value, editedPhone));
+        Files.setLastModifiedTime(filePath, modified);
+
+        AddressBook editedAddressBook = getTypicalAddressBook();
+        editedAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone(editedPhone).build());
+        assertEquals(editedAddressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_noSnapshot_readsDataFileAndWritesSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+        assertTrue(Files.exists(storage.getSnapshotFilePath()));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.snapshot.bak")));
+        assertReadsSnapshot(addressBook);
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshot_readsDataFileAndWritesSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(storage.getSnapshotFilePath());
+        snapshot[snapshot.length / 2] ^= 1;
+        Files.write(storage.getSnapshotFilePath(), snapshot);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+        assertReadsSnapshot(addressBook);
+    }
+
+    @Test
+    public void readAddressBook_noDataFile_ignoresSnapshot() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(filePath);
+        Files.deleteIfExists(testFolder.resolve("addressbook.json.bak"));
+
+        assertEquals(Optional.empty(), storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_noSnapshot() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, otherFilePath);
+
+        assertEquals(addressBook, storage.readAddressBook(otherFilePath).get());
+        assertFalse(Files.exists(storage.getSnapshotFilePath()));
+        assertFalse(Files.exists(testFolder.resolve("other.json.snapshot")));
+    }
+
+    /**
+     * Asserts that the storage reads {@code expected} from the snapshot, by reading it through a storage whose data
+     * file cannot be read.
+     */
+    private void assertReadsSnapshot(ReadOnlyAddressBook expected) throws Exception {
+        AddressBookStorage unreadableDataFile = new JsonAddressBookStorage(filePath) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path path) throws DataLoadingException {
+                throw new DataLoadingException(new IOException("Data file read instead of snapshot"));
+            }
+        };
+        assertEquals(expected, new BinaryAddressBookStorage(unreadableDataFile).readAddressBook().get());
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.BinarySerializableAddressBook.MESSAGE_CORRUPTED;
+import static seedu.address.storage.BinarySerializableAddressBook.MESSAGE_UNSUPPORTED_VERSION;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON_WITHOUT_EMAIL;
+import static seedu.address.testutil.TypicalPersons.BENSON_WITHOUT_GITHUB;
+import static seedu.address.testutil.TypicalPersons.BENSON_WITHOUT_PREFERRED_MODE;
+import static seedu.address.testutil.TypicalPersons.BENSON_WITHOUT_TELEGRAM;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BinarySerializableAddressBook.SourceStamp;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinarySerializableAddressBookTest {
+
+    private static final SourceStamp STAMP = new SourceStamp(1234, 1_700_000_000_000L);
+
+    @Test
+    public void readFrom_typicalPersons_success() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(addressBook, BinarySerializableAddressBook.readFrom(write(addressBook)));
+    }
+
+    @Test
+    public void readFrom_absentFields_success() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(BENSON_WITHOUT_EMAIL);
+        addressBook.addPerson(new PersonBuilder(BENSON_WITHOUT_TELEGRAM).withName("Benson Two").build());
+        addressBook.addPerson(new PersonBuilder(BENSON_WITHOUT_GITHUB).withName("Benson Three").build());
+        addressBook.addPerson(new PersonBuilder(BENSON_WITHOUT_PREFERRED_MODE).withName("Benson Four").build());
+        assertEquals(addressBook, BinarySerializableAddressBook.readFrom(write(addressBook)));
+    }
+
+    @Test
+    public void readSourceStamp_returnsStampWritten() throws Exception {
+        assertEquals(STAMP, BinarySerializableAddressBook.readSourceStamp(write(getTypicalAddressBook())));
+    }
+
+    @Test
+    public void readFrom_changedByte_throwsIllegalValueException() throws Exception {
+        ByteBuffer buffer = write(getTypicalAddressBook());
+        int position = buffer.limit() / 2;
+        buffer.put(position, (byte) (buffer.get(position) ^ 1));
+        assertThrows(IllegalValueException.class, MESSAGE_CORRUPTED, () ->
+                BinarySerializableAddressBook.readFrom(buffer));
+    }
+
+    @Test
+    public void readFrom_truncated_throwsIllegalValueException() throws Exception {
+        ByteBuffer buffer = write(getTypicalAddressBook());
+        buffer.limit(buffer.limit() - 1);
+        assertThrows(IllegalValueException.class, MESSAGE_CORRUPTED, () ->
+                BinarySerializableAddressBook.readFrom(buffer));
+        assertThrows(IllegalValueException.class, MESSAGE_CORRUPTED, () ->
+                BinarySerializableAddressBook.readFrom(ByteBuffer.allocate(8)));
+    }
+
+    @Test
+    public void readFrom_otherVersion_throwsIllegalValueException() throws Exception {
+        ByteBuffer buffer = write(getTypicalAddressBook());
+        // Version 1 stamped snapshots with the modified time of the data file instead of its checksum
+        buffer.putInt(Integer.BYTES, 1);
+        assertThrows(IllegalValueException.class, MESSAGE_UNSUPPORTED_VERSION, () ->
+                BinarySerializableAddressBook.readFrom(buffer));
+        assertThrows(IllegalValueException.class, MESSAGE_UNSUPPORTED_VERSION, () ->
+                BinarySerializableAddressBook.readSourceStamp(buffer));
+    }
+
+    @Test
+    public void readFrom_notSnapshot_throwsIllegalValueException() {
+        byte[] json = new byte[64];
+        Arrays.fill(json, (byte) '{');
+        assertThrows(IllegalValueException.class, MESSAGE_CORRUPTED, () ->
+                BinarySerializableAddressBook.readFrom(ByteBuffer.wrap(json)));
+    }
+
+    @Test
+    public void writeTo_repeatedStrings_storedOnce() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy").withTags("friends", "colleagues").build());
+        int sizeWithOnePerson = write(addressBook).limit();
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withPhone("123")
+                .withTags("friends", "colleagues").build());
+        int secondPersonSize = write(addressBook).limit() - sizeWithOnePerson;
+
+        // The new name and phone are stored in the string table, but not the email, telegram, github or tags
+        int stringsSize = Integer.BYTES + "Bob".length() + Integer.BYTES + "123".length();
+        int recordSize = Integer.BYTES + 7 * Integer.BYTES + 2 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+        assertEquals(stringsSize + recordSize, secondPersonSize);
+    }
+
+    private static ByteBuffer write(ReadOnlyAddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinarySerializableAddressBook.writeTo(out, addressBook, STAMP);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}
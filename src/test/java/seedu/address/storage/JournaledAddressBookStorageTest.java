@@ -0,0 +1,258 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.trackChanges(addressBook.getPersonList());
+    }
+
+    @Test
+    public void getJournalFilePath_nextToDataFile() {
+        assertEquals(testFolder.resolve("addressbook.json.journal"), storage.getJournalFilePath());
+    }
+
+    @Test
+    public void saveAddressBook_singlePersonChanges_appendsToJournalOnly() throws Exception {
+        String savedData = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(savedData, Files.readString(filePath));
+        // The header and the three changes
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_neighbouringPersonsReplacedTogether_appendsToJournalOnly() throws Exception {
+        String savedData = Files.readString(filePath);
+
+        // Alice and Benson are next to each other, so their replacements are merged into one sub-change
+        addressBook.replacePersons(Map.of(ALICE, new PersonBuilder(ALICE).withTags("retagged").build(),
+                BENSON, new PersonBuilder(BENSON).withTags("retagged").build()));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(savedData, Files.readString(filePath));
+        // The header and an edit for each person
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_bulkChange_compactsIntoDataFile() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setPersons(Arrays.asList(IDA, ALICE));
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_untrackedAddressBook_compactsIntoDataFile() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook untracked = new AddressBook();
+        untracked.addPerson(IDA);
+        storage.saveAddressBook(untracked);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(untracked, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsIntoDataFile() throws Exception {
+        for (int i = 0; i < JournaledAddressBookStorage.COMPACTION_THRESHOLD; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotSavedAfterLaterChanges_keepsLaterChanges() throws Exception {
+        addressBook.setPersons(List.of(ALICE));
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        storage.saveAddressBook(snapshot);
+        assertEquals(new AddressBook(snapshot), readBack());
+
+        storage.saveAddressBook(storage.snapshotAddressBook(addressBook));
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void snapshotAddressBook_changesToAppend_doesNotCopyPersons() {
+        addressBook.addPerson(HOON);
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+
+        assertSame(snapshot.getPersonList(), storage.snapshotAddressBook(addressBook).getPersonList());
+    }
+
+    @Test
+    public void snapshotAddressBook_bulkChange_copiesPersons() {
+        addressBook.setPersons(List.of(ALICE));
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotBeforeBulkChange_appendsSnapshotThenCompacts() throws Exception {
+        addressBook.addPerson(HOON);
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.setPersons(List.of(IDA));
+
+        storage.saveAddressBook(snapshot);
+        assertEquals(expected, readBack());
+
+        storage.saveAddressBook(storage.snapshotAddressBook(addressBook));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotWithoutPersonsAfterDataFileRemoved_throwsAndNextSnapshotCompacts()
+            throws Exception {
+        addressBook.addPerson(HOON);
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(addressBook);
+        Files.delete(filePath);
+
+        assertThrows(IOException.class, JournaledAddressBookStorage.MESSAGE_SAVE_DEFERRED, () ->
+                storage.saveAddressBook(snapshot));
+        assertTrue(storage.hasUnsavedChanges());
+
+        storage.saveAddressBook(storage.snapshotAddressBook(addressBook));
+        assertFalse(storage.hasUnsavedChanges());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedAppend_compactsIntoDataFile() throws Exception {
+        // A journal that cannot be written to
+        Files.createDirectory(storage.getJournalFilePath());
+        addressBook.addPerson(HOON);
+
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        assertTrue(storage.hasUnsavedChanges());
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(storage.hasUnsavedChanges());
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalEndsInPartialEntry_replaysCompleteEntries() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(storage.getJournalFilePath(), List.of("{\"sequenceNumber\":1,\"operation\":\"ADD\",\"per"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalEntriesAlreadyFolded_skipsThemAndCompactsOnNextSave() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        // Simulates a compaction interrupted after the data file was rewritten but before the journal was removed
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook reloaded = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(addressBook, reloaded);
+
+        reopened.trackChanges(reloaded.getPersonList());
+        reopened.saveAddressBook(reloaded);
+        assertFalse(Files.exists(reopened.getJournalFilePath()));
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAddressBook_crashBetweenCompactionSaveAndJournalDelete_doesNotReplayFoldedEntries()
+            throws Exception {
+        addressBook.addPerson(HOON);
+        Person editedHoon = new PersonBuilder(HOON).withName("Hoon Edited").build();
+        addressBook.setPerson(HOON, editedHoon);
+        storage.saveAddressBook(addressBook);
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+
+        // Simulates a compaction interrupted after the data file was rewritten but before the journal was removed
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertEquals(journal, Files.readAllLines(storage.getJournalFilePath()));
+
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalWithoutHeader_ignoresJournal() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+        Files.write(storage.getJournalFilePath(), journal.subList(1, journal.size()), StandardCharsets.UTF_8);
+
+        assertEquals(getTypicalAddressBook(), readBack());
+    }
+
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().get());
+    }
+}
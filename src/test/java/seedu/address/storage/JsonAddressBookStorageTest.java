@@ -88,6 +88,32 @@ public class JsonAddressBookStorageTest {
         assertEquals(original, new AddressBook(readBack));
     }
 
+    @Test
+    public void readAddressBook_dataFileCorrupted_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        // The second save keeps the first in the backup file, which must not be loaded in place of the data file
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook(), filePath);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook(), filePath);
+        Files.writeString(filePath, "{ \"persons\": [ { \"name\": ");
+
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_onlyBackupFileExists_returnsEmpty() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        // Saving never leaves the data file missing, so a missing one was deleted on purpose
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook(), filePath);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook(), filePath);
+        Files.delete(filePath);
+
+        assertFalse(jsonAddressBookStorage.readAddressBook(filePath).isPresent());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
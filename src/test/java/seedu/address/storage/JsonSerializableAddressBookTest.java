@@ -3,10 +3,15 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -20,6 +25,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -40,8 +48,46 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_DETAILS, 2, "Alice Pauline", 1);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void readFrom_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readFrom(parser));
+        }
+    }
+
+    @Test
+    public void readFrom_duplicatePersons_throwsIllegalValueException() throws Exception {
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_DETAILS, 2, "Alice Pauline", 1);
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonSerializableAddressBook.readFrom(parser));
+        }
     }
 
+    @Test
+    public void readFrom_unknownFields_ignored() throws Exception {
+        Path file = testFolder.resolve("unknownFields.json");
+        Files.writeString(file, "{ \"version\" : { \"major\" : 1 }, \"persons\" : [ ], \"notes\" : [ 1, 2 ] }");
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            assertEquals(new AddressBook(), JsonSerializableAddressBook.readFrom(parser));
+        }
+    }
+
+    @Test
+    public void writeTo_typicalPersons_readableAsSerializableAddressBook() throws Exception {
+        Path file = testFolder.resolve("written.json");
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        try (JsonGenerator generator = JsonUtil.createGenerator(Files.newOutputStream(file))) {
+            JsonSerializableAddressBook.writeTo(generator, typicalPersonsAddressBook);
+        }
+
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get();
+        assertEquals(typicalPersonsAddressBook, dataFromFile.toModelType());
+    }
 }
@@ -5,14 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.CommandHistory;
 
 public class NewlineDelimitedCommandHistoryStorageTest {
@@ -108,5 +112,39 @@ public class NewlineDelimitedCommandHistoryStorageTest {
         assertEquals(history, readBack);
     }
 
+    @Test
+    public void saveCommandHistory_afterRead_appendsNewCommandsOnly() throws Exception {
+        Path histFilePath = testFolder.resolve(".append_history");
+        Files.write(histFilePath, List.of("list", "delete 1"));
+        NewlineDelimitedCommandHistoryStorage commandHistoryStorage =
+            new NewlineDelimitedCommandHistoryStorage(histFilePath);
+        CommandHistory history = new CommandHistory(commandHistoryStorage.readCommandHistory().get());
+
+        history.addCommandToHistory("exit");
+        commandHistoryStorage.saveCommandHistory(CommandHistory.copySince(history, 2));
+
+        assertEquals(List.of("list", "delete 1", "exit"), Files.readAllLines(histFilePath));
+        assertFalse(Files.exists(FileUtil.getBackupPath(histFilePath)));
+    }
+
+    @Test
+    public void saveCommandHistory_fileTooLong_compactsToKeptCommands() throws Exception {
+        Path histFilePath = testFolder.resolve(".long_history");
+        int commandCount = 2 * CommandHistory.HISTORY_CAPACITY + 1;
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < commandCount; i++) {
+            commands.add("delete " + i);
+        }
+        Files.write(histFilePath, commands);
+        NewlineDelimitedCommandHistoryStorage commandHistoryStorage =
+            new NewlineDelimitedCommandHistoryStorage(histFilePath);
+        CommandHistory history = commandHistoryStorage.readCommandHistory().get();
+
+        commandHistoryStorage.saveCommandHistory(history);
+
+        assertEquals(commands.subList(commandCount - CommandHistory.HISTORY_CAPACITY, commandCount),
+            Files.readAllLines(histFilePath));
+    }
+
 
 }
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.ParallelPersonConverter.BATCH_SIZE;
+import static seedu.address.storage.ParallelPersonConverter.MESSAGE_INVALID_PERSON;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final String INVALID_NAME = "R@chel";
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutDownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void finish_noPersons_returnsEmptyList() throws Exception {
+        assertEquals(List.of(), new ParallelPersonConverter(pool).finish());
+    }
+
+    @Test
+    public void finish_manyBatches_returnsPersonsInOrder() throws Exception {
+        List<Person> persons = createPersons(20 * BATCH_SIZE + 7);
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool);
+        for (Person person : persons) {
+            converter.add(new JsonAdaptedPerson(person));
+        }
+        assertEquals(persons, converter.finish());
+    }
+
+    @Test
+    public void convertAll_manyBatches_returnsPersonsInOrder() throws Exception {
+        List<Person> persons = createPersons(3 * BATCH_SIZE);
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        persons.forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+        assertEquals(persons, ParallelPersonConverter.convertAll(adaptedPersons));
+    }
+
+    @Test
+    public void finish_invalidPersonsInSeveralBatches_reportsFirstInvalidPerson() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        createPersons(8 * BATCH_SIZE).forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+        int firstInvalidPosition = 5 * BATCH_SIZE + 3;
+        for (int position : new int[] {7 * BATCH_SIZE, firstInvalidPosition, firstInvalidPosition + 1}) {
+            adaptedPersons.set(position, createInvalidPerson());
+        }
+
+        String expectedMessage = String.format(MESSAGE_INVALID_PERSON, firstInvalidPosition + 1,
+                Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> {
+            ParallelPersonConverter converter = new ParallelPersonConverter(pool);
+            for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+                converter.add(adaptedPerson);
+            }
+            converter.finish();
+        });
+    }
+
+    @Test
+    public void finish_invalidPersonInLastBatch_reportsInvalidPerson() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        createPersons(BATCH_SIZE + 2).forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+        adaptedPersons.add(createInvalidPerson());
+
+        String expectedMessage = String.format(MESSAGE_INVALID_PERSON, BATCH_SIZE + 3, Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelPersonConverter.convertAll(adaptedPersons));
+    }
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withTags("friends", "group" + i % 10).build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson createInvalidPerson() {
+        Person valid = new PersonBuilder().build();
+        return new JsonAdaptedPerson(INVALID_NAME, valid.getPhone().toString(), valid.getEmail().toString(),
+                valid.getTelegram().toString(), valid.getGithub().toString(), valid.getPreferredMode().toString(),
+                List.of(), false, null);
+    }
+}
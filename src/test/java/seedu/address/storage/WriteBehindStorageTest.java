@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<String> errors = new ArrayList<>();
+
+    @Test
+    public void saveAddressBook_changedAfterSave_writesSnapshotAtSave() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.flush();
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_coalescesIntoOneWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    firstWriteStarted.countDown();
+                    awaitUninterruptibly(releaseFirstWrite);
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        awaitUninterruptibly(firstWriteStarted);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        releaseFirstWrite.countDown();
+        storage.flush();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_reportsError() {
+        IOException exception = new IOException("disk full");
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        });
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+
+        assertEquals(List.of(String.format(Storage.MESSAGE_SAVE_FAILED, "disk full")), errors);
+    }
+
+    @Test
+    public void saveCommandHistory_thenFlush_writesHistory() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        CommandHistory history = new CommandHistory();
+        history.addCommandToHistory("list");
+
+        storage.saveCommandHistory(history);
+        history.addCommandToHistory("clear");
+        storage.flush();
+
+        assertEquals(List.of("list"), storage.readCommandHistory().get().getHistory());
+    }
+
+    @Test
+    public void saveCommandHistory_repeatedSaves_writesEveryCommand() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        CommandHistory history = new CommandHistory();
+        for (String command : List.of("list", "delete 1", "clear")) {
+            history.addCommandToHistory(command);
+            storage.saveCommandHistory(history);
+        }
+        storage.flush();
+        history.addCommandToHistory("exit");
+        storage.saveCommandHistory(history);
+
+        assertEquals(List.of("exit", "clear", "delete 1", "list"),
+                storage.readCommandHistory().get().getHistory());
+    }
+
+    private WriteBehindStorage createStorage(AddressBookStorage addressBookStorage) {
+        StorageManager storageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new NewlineDelimitedCommandHistoryStorage(testFolder.resolve(".hist")));
+        return new WriteBehindStorage(storageManager, errors::add);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
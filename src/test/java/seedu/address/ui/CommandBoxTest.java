@@ -3,6 +3,8 @@ package seedu.address.ui;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.testfx.api.FxRobot;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
 
 import javafx.scene.Scene;
 import javafx.scene.control.TextField;
@@ -139,12 +142,17 @@ public class CommandBoxTest {
     }
 
     @Test
-    public void fillAutocomplete_withSuggestion_updatesCommandTextFieldToSuggestionAndSetsCaretPosToEnd(FxRobot robot) {
+    public void fillAutocomplete_withSuggestion_updatesCommandTextFieldToSuggestionAndSetsCaretPosToEnd(FxRobot robot)
+            throws TimeoutException {
         String expected = LaunchCommand.COMMAND_WORD;
         String contents = expected.substring(0, expected.length() - 1);
         TextField t = robot.lookup("#commandTextField").queryAs(TextField.class);
+        TextField hint = robot.lookup("#commandHintField").queryAs(TextField.class);
         robot.write(contents);
 
+        // Hints are computed in the background
+        WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> hint.getText().equals(expected));
+
         robot.push(CommandBox.FILL_AUTOCOMPLETE);
 
         assertEquals(expected, t.getText());
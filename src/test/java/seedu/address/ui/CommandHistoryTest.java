@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.CommandHistory;
@@ -61,13 +64,65 @@ public class CommandHistoryTest {
     @Test
     public void addCommand_exceedCapacity_oldestCommandRemoved() {
         CommandHistory chm = new CommandHistory();
-        for (int i = 1; i <= 16; i++) {
+        int commandCount = CommandHistory.HISTORY_CAPACITY + 1;
+        for (int i = 1; i <= commandCount; i++) {
             chm.addCommandToHistory("command " + i);
         }
         // The oldest command "command 1" should be removed
-        for (int i = 16; i >= 2; i--) {
+        for (int i = commandCount; i >= 2; i--) {
             String command = chm.getPreviousCommandFromHistory("");
             assert command.equals("command " + i);
         }
+        assertEquals("command 2", chm.getPreviousCommandFromHistory(""));
+        assertEquals(commandCount, chm.getCommandCount());
+        assertNull(chm.searchPreviousCommand("command 1", ""));
+    }
+
+    @Test
+    public void searchPrevious_repeatedSearches_returnsOlderMatchesIgnoringCase() {
+        CommandHistory chm = new CommandHistory();
+        chm.addCommandToHistory("find n\\Alex");
+        chm.addCommandToHistory("delete 1");
+        chm.addCommandToHistory("edit 2 n\\alex yeoh");
+        chm.addCommandToHistory("list");
+
+        assertEquals("edit 2 n\\alex yeoh", chm.searchPreviousCommand("ALEX", "typed"));
+        assertEquals("find n\\Alex", chm.searchPreviousCommand("ALEX", "typed"));
+        assertNull(chm.searchPreviousCommand("ALEX", "typed"));
+
+        // Navigation continues from the match and returns to the typed text
+        assertEquals("delete 1", chm.getNextCommandFromHistory());
+        chm.getNextCommandFromHistory();
+        chm.getNextCommandFromHistory();
+        assertEquals("typed", chm.getNextCommandFromHistory());
+    }
+
+    @Test
+    public void searchPrevious_shortQueryAndNewCommands_findsLatestMatch() {
+        CommandHistory chm = new CommandHistory();
+        chm.addCommandToHistory("delete 1");
+        assertEquals("delete 1", chm.searchPreviousCommand("1", ""));
+        assertNull(chm.searchPreviousCommand("", ""));
+
+        chm.addCommandToHistory("delete 12");
+        assertEquals("delete 12", chm.searchPreviousCommand("lete", ""));
+        assertEquals("delete 1", chm.searchPreviousCommand("lete", ""));
+        assertNull(chm.searchPreviousCommand("delete 3", ""));
+    }
+
+    @Test
+    public void getCommandsSince_returnsCommandsOldestFirst() {
+        CommandHistory chm = new CommandHistory();
+        chm.addCommandToHistory("first command");
+        chm.addCommandToHistory("second command");
+        chm.addCommandToHistory("third command");
+
+        assertEquals(List.of("second command", "third command"), chm.getCommandsSince(1));
+        assertEquals(List.of("third command", "second command", "first command"), chm.getHistory());
+
+        CommandHistory copy = CommandHistory.copySince(chm, 2);
+        assertEquals(List.of("third command"), copy.getCommandsSince(0));
+        assertEquals(3, copy.getCommandCount());
+        assertEquals(chm, new CommandHistory(chm));
     }
 }